@@ -0,0 +1,59 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * 인증 필터 한 번의 비용 측정
+ * - cached = true  : 같은 토큰이 반복해서 들어오는 경우 (검증 캐시 적중)
+ * - cached = false : 매번 파싱 + 서명 검증을 하는 경우 (캐시 크기 0)
+ */
+@State(Scope.Benchmark)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({"true", "false"})
+    public boolean cached;
+
+    private JwtAuthenticationFilter filter;
+    private String bearerToken;
+    private final FilterChain chain = (request, response) -> {
+    };
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        JwtUtil jwtUtil = JwtBenchmarkSupport.createJwtUtil();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JwtAuthenticationCache cache = new JwtAuthenticationCache(cached ? 10_000 : 0, meterRegistry);
+        UserEpochTable userEpochTable = new UserEpochTable(null, meterRegistry, 1000, Duration.ofSeconds(10), 5000); // refresh 하지 않으므로 저장소 불필요
+        userEpochTable.put(1L, 0);
+        filter = new JwtAuthenticationFilter(jwtUtil, new ObjectMapper(), cache, userEpochTable, meterRegistry);
+        bearerToken = jwtUtil.createToken(1L, "bench@test.com", UserRole.ROLE_USER, "bench", 0);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse doFilterInternal() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos");
+        request.addHeader("Authorization", bearerToken);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilterInternal(request, response, chain);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response;
+    }
+}
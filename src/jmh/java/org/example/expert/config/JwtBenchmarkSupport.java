@@ -0,0 +1,21 @@
+package org.example.expert.config;
+
+import java.lang.reflect.Field;
+
+// 벤치마크에서 Spring 컨텍스트 없이 JwtUtil을 초기화하기 위한 헬퍼
+final class JwtBenchmarkSupport {
+
+    static final String SECRET_KEY = "aGVsbG9oZWxsbzEyMzRoZWxsb2hlbGxvMTIzNGhlbGxvaGVsbG8xMjM0aGVsbG9oZWxsbzEyMzRoZWxsb2hlbGxvMTIzNGhlbGxvaGVsbG8xMjM0";
+
+    private JwtBenchmarkSupport() {
+    }
+
+    static JwtUtil createJwtUtil() throws ReflectiveOperationException {
+        JwtUtil jwtUtil = new JwtUtil();
+        Field secretKey = JwtUtil.class.getDeclaredField("secretKey"); // @Value 주입 대신 직접 설정
+        secretKey.setAccessible(true);
+        secretKey.set(jwtUtil, SECRET_KEY);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+}
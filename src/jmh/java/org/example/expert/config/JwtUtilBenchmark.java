@@ -0,0 +1,30 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class JwtUtilBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        jwtUtil = JwtBenchmarkSupport.createJwtUtil();
+        token = jwtUtil.substringToken(jwtUtil.createToken(1L, "bench@test.com", UserRole.ROLE_USER, "bench", 0));
+    }
+
+    @Benchmark
+    public String createToken() {
+        return jwtUtil.createToken(1L, "bench@test.com", UserRole.ROLE_USER, "bench", 0);
+    }
+
+    @Benchmark
+    public Object extractClaims() {
+        return jwtUtil.extractClaims(token);
+    }
+}
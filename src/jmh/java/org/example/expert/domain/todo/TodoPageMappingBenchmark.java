@@ -0,0 +1,57 @@
+package org.example.expert.domain.todo;
+
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일정 목록 조회의 엔티티 -> DTO 변환(Page.map) 비용
+ * TodoService.getTodos 는 현재 Projection으로 DTO를 바로 조회하지만,
+ * 엔티티를 조회해서 변환하는 방식이 다시 들어왔을 때 요청당 CPU 비용을 비교할 기준으로 유지한다.
+ */
+@State(Scope.Benchmark)
+public class TodoPageMappingBenchmark {
+
+    @Param({"10", "100"})
+    public int size;
+
+    private Page<Todo> page;
+
+    @Setup
+    public void setUp() {
+        User user = new User("bench@test.com", "pw", UserRole.ROLE_USER, "bench");
+        List<Todo> todos = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            todos.add(new Todo("title" + i, "contents" + i, "Sunny", user));
+        }
+        page = new PageImpl<>(todos, PageRequest.of(0, size), size * 100L);
+    }
+
+    @Benchmark
+    public Page<TodoResponse> mapToResponse() {
+        return page.map(todo -> new TodoResponse(
+                todo.getId(),
+                todo.getTitle(),
+                todo.getContents(),
+                todo.getWeather(),
+                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
+                todo.getCreatedAt(),
+                todo.getModifiedAt(),
+                todo.getCommentCount(),
+                todo.getManagerCount()
+        ));
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.expert.domain.user;
+
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class UserBenchmark {
+
+    private final AuthUser authUser = new AuthUser(1L, "bench@test.com", UserRole.ROLE_ADMIN);
+
+    @Benchmark
+    public UserRole userRoleOf() {
+        return UserRole.of("ROLE_ADMIN");
+    }
+
+    @Benchmark
+    public UserRole userRoleOfIgnoreCase() {
+        return UserRole.of("role_user");
+    }
+
+    @Benchmark
+    public User fromAuthUser() {
+        return User.fromAuthUser(authUser);
+    }
+}
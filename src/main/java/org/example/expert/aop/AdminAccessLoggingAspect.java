@@ -2,21 +2,25 @@ package org.example.expert.aop;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Before;
+import org.example.expert.domain.audit.event.AdminAuditEvent;
+import org.example.expert.domain.audit.service.AdminAuditBuffer;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 
-@Slf4j
 @Aspect
 @Component
 @RequiredArgsConstructor
 public class AdminAccessLoggingAspect {
 
     private final HttpServletRequest request;
+    private final AdminAuditBuffer adminAuditBuffer;
 
     /**
      * Debug로 실행 후 체크하는 법 (입력되는 파라마터)
@@ -32,19 +36,29 @@ public class AdminAccessLoggingAspect {
      * request.getRequestURI()
      * result = {"/admin/users/1"}
      * <p>
-     * request.getAttribute("userId")
-     * result = {value = 1}
-     * <p>
-     * 로그 출력 확인 (Console 화면에서 확인)
-     * Admin Access Log - User ID: 1, Request Time: 2025-09-19T09:40:31.999309, Request URL: /admin/users/1, Method: changeUserRole
+     * 모든 관리자 API(/admin/**, *AdminController)의 호출 기록을 admin_audit 테이블에 남긴다.
+     * 요청 스레드에서는 링 버퍼(AdminAuditBuffer)에 넣기만 하고, 저장은 AdminAuditWriter 가 백그라운드에서 모아서 처리한다.
+     * 버퍼가 가득 차서 버린 건은 요청 스레드에서 로그를 남기지 않고, admin.audit.dropped 메트릭과 AdminAuditWriter 의 주기별 경고 로그로 확인한다.
      */
-    @Before("execution(* org.example.expert.domain.user.controller.UserAdminController.changeUserRole(..))")
-    public void logAfterChangeUserRole(JoinPoint joinPoint) {
-        String userId = String.valueOf(request.getAttribute("userId"));
-        String requestUrl = request.getRequestURI();
-        LocalDateTime requestTime = LocalDateTime.now();
+    @Before("execution(* org.example.expert.domain..controller.*AdminController.*(..))")
+    public void logAdminAccess(JoinPoint joinPoint) {
+        String handler = joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName();
+        AdminAuditEvent event = new AdminAuditEvent(
+                currentUserId(),
+                handler,
+                request.getMethod(),
+                request.getRequestURI(),
+                LocalDateTime.now()
+        );
+
+        adminAuditBuffer.offer(event);
+    }
 
-        log.info("Admin Access Log - User ID: {}, Request Time: {}, Request URL: {}, Method: {}",
-                userId, requestTime, requestUrl, joinPoint.getSignature().getName());
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthUser authUser) {
+            return authUser.getId();
+        }
+        return null;
     }
 }
@@ -1,30 +1,156 @@
 package org.example.expert.client;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.client.dto.WeatherDto;
 import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.common.exception.WeatherNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * 날씨 데이터는 1년치(MM-dd) 배열이 통째로 내려오기 때문에 매번 호출할 필요가 없다.
+ * 한 번 받아온 데이터를 날짜(MM-dd) -> 날씨 Map으로 메모리에 보관하고,
+ * 자정 직전에 백그라운드에서 갱신해서 일정 생성 시에는 외부 호출이 발생하지 않도록 한다.
+ * <p>
+ * 갱신에 실패했거나 아직 다음 날 데이터가 올라오지 않아 날짜가 없다면, 한 번 다시 받아온 뒤 조회한다.
+ * (날짜가 계속 없는 경우 매 요청마다 외부 호출이 발생하지 않도록 miss-reload-interval 동안은 다시 받지 않는다.)
+ */
+@Slf4j
 @Component
 public class WeatherClient {
 
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM-dd");
+
     private final RestTemplate restTemplate;
+    private final URI weatherApiUri;
+    private final long missReloadIntervalNanos;
+
+    private volatile Map<String, String> weatherByDate; // 캐시된 날씨 데이터, 아직 받아오지 않았다면 null
+    private volatile long loadedAtNanos; // 마지막으로 받아온 시점 (System.nanoTime)
+    private final AtomicReference<CompletableFuture<Map<String, String>>> inFlight = new AtomicReference<>(); // 진행 중인 조회
 
-    public WeatherClient(RestTemplateBuilder builder) {
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter refreshSuccessCounter;
+    private final Counter refreshFailureCounter;
+    private final Timer fetchTimer;
+
+    public WeatherClient(RestTemplateBuilder builder,
+                         @Value("${weather.api.base-url:https://f-api.github.io}") String baseUrl,
+                         @Value("${weather.cache.miss-reload-interval:60s}") Duration missReloadInterval,
+                         MeterRegistry meterRegistry) {
         this.restTemplate = builder.build();
+        this.weatherApiUri = buildWeatherApiUri(baseUrl);
+        this.missReloadIntervalNanos = missReloadInterval.toNanos();
+        this.hitCounter = Counter.builder("weather.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder("weather.cache.requests").tag("result", "miss").register(meterRegistry);
+        this.refreshSuccessCounter = Counter.builder("weather.cache.refreshes").tag("result", "success").register(meterRegistry);
+        this.refreshFailureCounter = Counter.builder("weather.cache.refreshes").tag("result", "failure").register(meterRegistry);
+        this.fetchTimer = Timer.builder("weather.api.fetch").register(meterRegistry);
     }
 
     public String getTodayWeather() {
+        return getWeather(LocalDate.now());
+    }
+
+    public String getWeather(LocalDate date) {
+        Map<String, String> snapshot = weatherByDate;
+        if (snapshot != null) {
+            hitCounter.increment();
+        } else {
+            missCounter.increment();
+            snapshot = load();
+        }
+
+        String key = date.format(DATE_FORMATTER);
+        String weather = snapshot.get(key);
+        if (weather == null && canReloadOnMiss(snapshot)) {
+            weather = load().get(key); // 동시에 발생한 미스는 한 번의 외부 호출로 합쳐진다.
+        }
+        if (weather == null) {
+            throw new WeatherNotFoundException(key + "에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+        }
+        return weather;
+    }
+
+    // 이미 다른 스레드가 새로 받아왔다면 그 데이터를 다시 조회하도록 true
+    private boolean canReloadOnMiss(Map<String, String> snapshot) {
+        return weatherByDate != snapshot || System.nanoTime() - loadedAtNanos >= missReloadIntervalNanos;
+    }
+
+    /**
+     * 자정 직전에 다음 날 데이터를 미리 갱신한다.
+     * 갱신에 실패하더라도 기존 캐시를 그대로 사용하고, 다음 주기에 다시 시도한다.
+     */
+    @Scheduled(cron = "${weather.cache.refresh-cron:0 55 23 * * *}")
+    public void refresh() {
+        try {
+            load();
+            refreshSuccessCounter.increment();
+        } catch (RuntimeException e) {
+            refreshFailureCounter.increment();
+            log.warn("날씨 데이터 갱신 실패, 기존 캐시를 유지합니다.", e);
+        }
+    }
+
+    /**
+     * 동시에 여러 요청이 캐시 미스를 만나더라도 외부 호출은 한 번만 발생하도록
+     * 먼저 들어온 스레드만 조회하고, 나머지 스레드는 같은 결과(CompletableFuture)를 기다린다.
+     */
+    private Map<String, String> load() {
+        CompletableFuture<Map<String, String>> future = new CompletableFuture<>();
+        CompletableFuture<Map<String, String>> running = inFlight.compareAndExchange(null, future);
+        if (running != null) {
+            return await(running);
+        }
+
+        try {
+            Map<String, String> loaded = fetchTimer.record(this::fetchWeatherByDate);
+            loadedAtNanos = System.nanoTime();
+            weatherByDate = loaded;
+            future.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.set(null);
+        }
+    }
+
+    private Map<String, String> await(CompletableFuture<Map<String, String>> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private Map<String, String> fetchWeatherByDate() {
         ResponseEntity<WeatherDto[]> responseEntity =
-                restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
+                restTemplate.getForEntity(weatherApiUri, WeatherDto[].class);
 
         if (!HttpStatus.OK.equals(responseEntity.getStatusCode())) {
             throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + responseEntity.getStatusCode());
@@ -35,28 +161,31 @@ public class WeatherClient {
             throw new ServerException("날씨 데이터가 없습니다.");
         }
 
-        String today = getCurrentDate();
-
+        // 날짜나 날씨가 비어 있는 항목은 제외한다. (Map.copyOf 는 null 을 허용하지 않는다.)
+        Map<String, String> result = new HashMap<>(weatherArray.length * 2);
+        int skipped = 0;
         for (WeatherDto weatherDto : weatherArray) {
-            if (today.equals(weatherDto.getDate())) {
-                return weatherDto.getWeather();
+            if (weatherDto == null || weatherDto.getDate() == null || weatherDto.getWeather() == null) {
+                skipped++;
+                continue;
             }
+            result.put(weatherDto.getDate(), weatherDto.getWeather());
         }
-
-        throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+        if (skipped > 0) {
+            log.warn("날짜 또는 날씨가 비어 있는 날씨 데이터 {}건을 제외했습니다.", skipped);
+        }
+        if (result.isEmpty()) {
+            throw new ServerException("날씨 데이터가 없습니다.");
+        }
+        return Map.copyOf(result);
     }
 
-    private URI buildWeatherApiUri() {
+    private URI buildWeatherApiUri(String baseUrl) {
         return UriComponentsBuilder
-                .fromUriString("https://f-api.github.io")
+                .fromUriString(baseUrl)
                 .path("/f-api/weather.json")
                 .encode()
                 .build()
                 .toUri();
     }
-
-    private String getCurrentDate() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
-        return LocalDate.now().format(formatter);
-    }
 }
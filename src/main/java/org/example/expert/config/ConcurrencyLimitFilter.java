@@ -0,0 +1,85 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 가상 스레드 모드에서만 등록되는 동시 요청 수 제한 필터
+ * 플랫폼 스레드 모드에서는 Tomcat 스레드 풀 크기가 자연스럽게 동시 요청 수를 제한하지만,
+ * 가상 스레드는 요청마다 새로 만들어지기 때문에 수천 개의 요청이 한꺼번에 커넥션 풀로 몰릴 수 있다.
+ * 허용치를 넘는 요청은 잠시 대기하고, 그래도 자리가 나지 않으면 503을 반환한다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final ObjectMapper objectMapper;
+    private final Semaphore permits;
+    private final long acquireTimeoutMillis;
+
+    public ConcurrencyLimitFilter(ObjectMapper objectMapper,
+                                  @Value("${virtual-threads.max-concurrent-requests:40}") int maxConcurrentRequests,
+                                  @Value("${virtual-threads.acquire-timeout-millis:1000}") long acquireTimeoutMillis) {
+        this.objectMapper = objectMapper;
+        this.permits = new Semaphore(maxConcurrentRequests, true);
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain chain
+    ) throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            log.warn("동시 요청 수 초과로 요청 거절: URI={}", request.getRequestURI());
+            sendErrorResponse(response);
+            return;
+        }
+
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void sendErrorResponse(HttpServletResponse response) throws IOException {
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        response.setStatus(status.value());
+        response.setContentType("application/json;charset=UTF-8");
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("status", status.name());
+        errorResponse.put("code", status.value());
+        errorResponse.put("message", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+    }
+}
@@ -0,0 +1,84 @@
+package org.example.expert.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증이 끝난 JWT -> 인증 객체(JwtAuthenticationToken) 캐시
+ * 같은 토큰이 반복해서 들어오면 Base64 디코딩, JSON 파싱, 서명(HMAC) 검증을 다시 하지 않고 캐시된 인증 객체를 사용한다.
+ * <p>
+ * - 키는 토큰 원문 대신 SHA-256 다이제스트를 사용해서 메모리에 토큰 원문을 보관하지 않는다.
+ * - 각 항목은 토큰의 만료 시간(exp)에 맞춰 함께 만료되기 때문에 만료된 토큰이 캐시로 통과되지 않는다.
+ * - 최대 개수를 넘으면 오래 사용되지 않은 항목부터 제거된다.
+ */
+@Component
+public class JwtAuthenticationCache {
+
+    private final Cache<String, CachedAuthentication> cache;
+
+    public JwtAuthenticationCache(@Value("${jwt.cache.maximum-size:10000}") long maximumSize, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.verified-token"); // cache.gets{result=hit|miss} 등으로 적중률 확인
+    }
+
+    public Authentication get(String token) {
+        CachedAuthentication cached = cache.getIfPresent(digest(token));
+        return cached != null ? cached.authentication() : null;
+    }
+
+    public void put(String token, Authentication authentication, Date expiration) {
+        if (expiration == null || expiration.getTime() <= System.currentTimeMillis()) {
+            return; // 만료 시간이 없거나 이미 지난 토큰은 캐시하지 않는다.
+        }
+        cache.put(digest(token), new CachedAuthentication(authentication, expiration.getTime()));
+    }
+
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e); // SHA-256은 모든 JVM이 지원해야 하는 알고리즘
+        }
+    }
+
+    private record CachedAuthentication(Authentication authentication, long expiresAtMillis) {
+    }
+
+    // 항목마다 남은 토큰 유효 시간만큼만 캐시에 머무른다.
+    private static class TokenExpiry implements Expiry<String, CachedAuthentication> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedAuthentication value, long currentTime) {
+            long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedAuthentication value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedAuthentication value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
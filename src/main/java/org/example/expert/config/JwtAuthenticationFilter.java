@@ -5,12 +5,14 @@ import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.user.enums.UserRole;
@@ -23,6 +25,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * OncePerRequestFilter를 상속 받는다면 모든 요청마다 한 번만 실행!
@@ -31,11 +34,27 @@ import java.util.Map;
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil; // JWT Token을 파싱하고 검증하는 유틸 클래스
     private final ObjectMapper objectMapper; // 에러 응답을 JSON으로 직렬화 하는데 사용
+    private final JwtAuthenticationCache jwtAuthenticationCache; // 검증이 끝난 토큰의 인증 객체 캐시
+    private final UserEpochTable userEpochTable; // 유저별 현재 토큰 epoch (폐기된 토큰 확인)
+    private final Timer verificationTimer; // 캐시 미스 시 파싱 + 서명 검증에 걸린 시간
+    private final Counter revokedCounter;
+
+    public JwtAuthenticationFilter(JwtUtil jwtUtil,
+                                   ObjectMapper objectMapper,
+                                   JwtAuthenticationCache jwtAuthenticationCache,
+                                   UserEpochTable userEpochTable,
+                                   MeterRegistry meterRegistry) {
+        this.jwtUtil = jwtUtil;
+        this.objectMapper = objectMapper;
+        this.jwtAuthenticationCache = jwtAuthenticationCache;
+        this.userEpochTable = userEpochTable;
+        this.verificationTimer = Timer.builder("jwt.verification").register(meterRegistry);
+        this.revokedCounter = Counter.builder("jwt.revoked").register(meterRegistry);
+    }
 
     /**
      * 인증 흐름
@@ -63,10 +82,26 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private boolean processAuthentication(String jwt, HttpServletRequest request, HttpServletResponse response) throws IOException {
         try {
-            Claims claims = jwtUtil.extractClaims(jwt); // JWT를 파싱해서 Claims 객체 추출
+            Authentication authentication = jwtAuthenticationCache.get(jwt); // 이미 검증한 토큰이라면 파싱, 서명 검증 생략
+
+            if (authentication == null) {
+                long start = System.nanoTime();
+                Claims claims = jwtUtil.extractClaims(jwt); // JWT를 파싱해서 Claims 객체 추출
+                verificationTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+                authentication = createAuthentication(claims);
+                jwtAuthenticationCache.put(jwt, authentication, claims.getExpiration());
+            }
+
+            // 캐시 적중 여부와 상관없이 확인 (권한/비밀번호 변경 전에 발급된 토큰 거부), DB 조회 없이 메모리 테이블만 확인
+            if (isRevoked(authentication)) {
+                revokedCounter.increment();
+                sendErrorResponse(response, HttpStatus.UNAUTHORIZED, "다시 로그인해주세요.");
+                return false;
+            }
 
             if (SecurityContextHolder.getContext().getAuthentication() == null) {
-                setAuthentication(claims);
+                SecurityContextHolder.getContext().setAuthentication(authentication);
             }
             return true;
         } catch (ExpiredJwtException e) {
@@ -82,8 +117,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         return false; // 검증 실패
     }
 
-    // 인증 객체 등록
-    private void setAuthentication(Claims claims) {
+    // 인증 객체 생성
+    private Authentication createAuthentication(Claims claims) {
 
         Long userId = Long.valueOf(claims.getSubject());
 
@@ -93,10 +128,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         AuthUser authUser = new AuthUser(userId, email, userRole); // JWT에서 사용자 정보를 추출 후 AuthUser 객체 생성
 
-        // JwtAuthenticationToken 으로 감싸서 SpringSecurity 인증 컨텍스트에 등록
-        Authentication authenticationToken = new JwtAuthenticationToken(authUser);
+        Integer tokenEpoch = claims.get("epoch", Integer.class); // epoch 클레임이 없는 이전 토큰은 0
+
+        // JwtAuthenticationToken 으로 감싸서 SpringSecurity 인증 컨텍스트에 등록할 수 있도록 반환
+        return new JwtAuthenticationToken(authUser, tokenEpoch != null ? tokenEpoch : 0);
+    }
 
-        SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+    private boolean isRevoked(Authentication authentication) {
+        JwtAuthenticationToken token = (JwtAuthenticationToken) authentication;
+        AuthUser authUser = (AuthUser) token.getPrincipal();
+        return userEpochTable.isRevoked(authUser.getId(), token.getTokenEpoch());
     }
 
     // 에러 응답
@@ -16,13 +16,23 @@ import org.springframework.security.authentication.AbstractAuthenticationToken;
 public class JwtAuthenticationToken extends AbstractAuthenticationToken {
 
   private final AuthUser authUser; // 사용자의 정보를 담고 있는 dto
+  private final int tokenEpoch; // 토큰 발급 시점의 epoch (폐기 여부 확인용)
 
   public JwtAuthenticationToken(AuthUser authUser) { // jwt를 통해 인증된 사용자 정보를 받아서 인증 객체로 반환
+      this(authUser, 0);
+  }
+
+  public JwtAuthenticationToken(AuthUser authUser, int tokenEpoch) {
       super(authUser.getAuthorities());
       this.authUser = authUser;
+      this.tokenEpoch = tokenEpoch;
       setAuthenticated(true);
   }
 
+  public int getTokenEpoch() {
+      return tokenEpoch;
+  }
+
     @Override
     public Object getCredentials() { // 서버는 사용자의 토큰만 검증, 사용자의 자격 증명이 불필요 그렇기에 null을 반환
         return null;
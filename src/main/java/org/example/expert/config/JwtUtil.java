@@ -1,6 +1,7 @@
 package org.example.expert.config;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -34,6 +35,7 @@ public class JwtUtil {
     @Value("${jwt.secret.key}")
     private String secretKey;
     private Key key;
+    private JwtParser jwtParser; // 매 요청마다 새로 만들지 않도록 한 번만 생성해서 재사용 (thread-safe)
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
 
     // base64로 인코딩된 문자열을 디코딩해서 JWT 서명에 사용할 Key 객체로 변환
@@ -41,10 +43,13 @@ public class JwtUtil {
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(bytes);
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
     }
 
-    // Token 생성
-    public String createToken(Long userId, String email, UserRole userRole, String nickname) {
+    // Token 생성 (tokenEpoch: 발급 시점의 users.token_epoch, 이후 증가하면 이 토큰은 폐기된다.)
+    public String createToken(Long userId, String email, UserRole userRole, String nickname, int tokenEpoch) {
         Date date = new Date();
 
         return BEARER_PREFIX +
@@ -53,6 +58,7 @@ public class JwtUtil {
                         .claim("email", email)
                         .claim("userRole", userRole)
                         .claim("nickname", nickname) // token에 유저의 닉네임 정보를 추가한다.
+                        .claim("epoch", tokenEpoch)
                         .setExpiration(new Date(date.getTime() + TOKEN_TIME))
                         .setIssuedAt(date) // 발급일
                         .signWith(key, signatureAlgorithm) // 암호화 알고리즘
@@ -67,9 +73,7 @@ public class JwtUtil {
     }
 
     public Claims extractClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
     }
@@ -0,0 +1,83 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청 하나에서 실행된 SQL 개수를 센다.
+ * - 운영: http.server.requests.queries 지표(uri 별)로 기록
+ * - 개발: query-count.header-enabled = true 라면 X-Query-Count 응답 헤더로 노출
+ * 기준(query-count.warn-threshold)을 넘으면 N+1 가능성이 있으므로 경고 로그를 남긴다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    public static final String HEADER_NAME = "X-Query-Count";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${query-count.header-enabled:false}")
+    private boolean headerEnabled;
+
+    @Value("${query-count.warn-threshold:10}")
+    private int warnThreshold;
+
+    public QueryCountFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public boolean isHeaderEnabled() {
+        return headerEnabled;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain chain
+    ) throws ServletException, IOException {
+        QueryCounter.reset();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            int count = QueryCounter.get();
+            QueryCounter.clear();
+
+            // 응답 본문이 있는 경우 QueryCountHeaderAdvice가 본문 작성 전에 헤더를 추가한다.
+            if (headerEnabled && !response.isCommitted()) {
+                response.setHeader(HEADER_NAME, String.valueOf(count));
+            }
+            record(request, count);
+        }
+    }
+
+    private void record(HttpServletRequest request, int count) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder("http.server.requests.queries")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(count);
+
+        if (count > warnThreshold) {
+            log.warn("요청당 SQL 실행 횟수 초과: {} {} -> {}회 (기준 {}회)", request.getMethod(), uri, count, warnThreshold);
+        }
+    }
+}
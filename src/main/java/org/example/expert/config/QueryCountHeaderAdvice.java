@@ -0,0 +1,38 @@
+package org.example.expert.config;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 응답 본문을 쓰기 시작하면 헤더를 추가할 수 없기 때문에
+ * 본문을 쓰기 직전에 지금까지 실행된 SQL 개수를 X-Query-Count 헤더로 추가한다.
+ */
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class QueryCountHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    private final QueryCountFilter queryCountFilter;
+
+    @Override
+    public boolean supports(@NonNull MethodParameter returnType, @NonNull Class<? extends HttpMessageConverter<?>> converterType) {
+        return queryCountFilter.isHeaderEnabled();
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body,
+                                  @NonNull MethodParameter returnType,
+                                  @NonNull MediaType selectedContentType,
+                                  @NonNull Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  @NonNull ServerHttpRequest request,
+                                  @NonNull ServerHttpResponse response) {
+        response.getHeaders().set(QueryCountFilter.HEADER_NAME, String.valueOf(QueryCounter.get()));
+        return body;
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.expert.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 SQL을 실행하기 직전에 호출되는 StatementInspector
+ * SQL은 수정하지 않고 실행 횟수만 센다. (hibernate.session_factory.statement_inspector 로 등록)
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryCounter.increment();
+        return sql;
+    }
+}
@@ -0,0 +1,33 @@
+package org.example.expert.config;
+
+/**
+ * 현재 스레드(요청)에서 실행된 SQL 개수
+ * QueryCountInspector가 SQL이 실행될 때마다 증가시키고, QueryCountFilter가 요청 단위로 초기화/수집한다.
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<Count> COUNT = ThreadLocal.withInitial(Count::new);
+
+    private QueryCounter() {
+    }
+
+    public static void reset() {
+        COUNT.get().value = 0;
+    }
+
+    public static void increment() {
+        COUNT.get().value++;
+    }
+
+    public static int get() {
+        return COUNT.get().value;
+    }
+
+    public static void clear() {
+        COUNT.remove();
+    }
+
+    private static final class Count {
+        private int value; // 박싱 없이 증가시키기 위한 int 필드
+    }
+}
@@ -0,0 +1,9 @@
+package org.example.expert.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling // @Scheduled 로 선언된 백그라운드 작업(캐시 갱신 등) 활성화
+public class SchedulingConfig {
+}
@@ -46,6 +46,9 @@ public class SecurityConfig {
                         .requestMatchers(request -> request.getRequestURI().startsWith("/auth")).permitAll()
                         .requestMatchers("/test").hasAuthority(UserRole.Authority.ADMIN) // `/test`는 ADMIN만 허용
                         .requestMatchers("/open").permitAll() // `/open`은 아무나 접근 가능
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll() // 헬스 체크, Prometheus 수집
+                        .requestMatchers("/actuator/**").hasAuthority(UserRole.Authority.ADMIN)
+                        .requestMatchers("/admin/todos/**").hasAuthority(UserRole.Authority.ADMIN) // 읽기 모델 재생성
                         .anyRequest().authenticated() // 다른 요청들은 authentication 필요
                 )
                 .build();
@@ -0,0 +1,205 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.user.event.UserTokenRevokedEvent;
+import org.example.expert.domain.user.repository.UserEpoch;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 유저 id -> 토큰 epoch 메모리 테이블 (토큰 폐기 확인용)
+ * <p>
+ * 권한이나 비밀번호가 바뀌면 users.token_epoch 가 증가하고, 토큰의 epoch 클레임이 이 값보다 작으면 폐기된 토큰이다.
+ * 요청마다 DB를 조회하지 않도록 long[] / int[] 오픈 어드레싱 해시 테이블에 보관하고,
+ * refresh-delay 주기로 마지막 갱신 이후 수정된 유저(modified_at)만 읽어서 반영한다.
+ * <p>
+ * - 조회는 StampedLock 낙관적 읽기로 잠금 없이 처리한다.
+ * - 시작 시 전체 유저를 동기로 읽고, 실패하면 애플리케이션 시작을 중단한다. (비어 있는 테이블로 요청을 받으면 폐기된 토큰이 모두 통과된다.)
+ * - 테이블에 없는 유저(시작 이후 가입)는 epoch 0 으로 보고 통과시킨다.
+ * - 커밋이 수정 시간보다 늦게 보일 수 있으므로 매번 overlap 만큼 이전부터 다시 읽는다. (epoch 는 증가만 하므로 다시 반영해도 안전)
+ * - 주기 갱신은 @Scheduled 공용 스케줄러가 아닌 전용 스레드에서 실행한다.
+ *   (검색 색인 재생성 같은 오래 걸리는 작업 뒤에서 기다리면 다른 인스턴스에서 폐기된 토큰이 그만큼 늦게 거부된다.)
+ *   커밋 직후 갱신도 같은 스레드에 넘겨서, 요청 스레드가 진행 중인 주기 갱신을 기다리지 않게 한다.
+ */
+@Slf4j
+@Component
+public class UserEpochTable {
+
+    private static final long EMPTY = 0L;
+    private static final LocalDateTime INITIAL_WATERMARK = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final UserRepository userRepository;
+    private final int batchSize;
+    private final Duration overlap;
+    private final long refreshDelayMillis;
+    private ScheduledExecutorService refreshExecutor;
+
+    private final StampedLock lock = new StampedLock();
+    private Slots slots = new Slots(1024); // 크기를 늘릴 때는 통째로 교체
+    private int size;
+
+    private LocalDateTime watermark = INITIAL_WATERMARK; // refresh 에서만 사용 (synchronized)
+
+    public UserEpochTable(UserRepository userRepository,
+                          MeterRegistry meterRegistry,
+                          @Value("${jwt.epoch.refresh-batch-size:1000}") int batchSize,
+                          @Value("${jwt.epoch.refresh-overlap:10s}") Duration overlap,
+                          @Value("${jwt.epoch.refresh-delay:5000}") long refreshDelayMillis) {
+        this.userRepository = userRepository;
+        this.batchSize = batchSize;
+        this.overlap = overlap;
+        this.refreshDelayMillis = refreshDelayMillis;
+        Gauge.builder("jwt.epoch.table.size", this, table -> table.size).register(meterRegistry);
+    }
+
+    // 초기 전체 적재는 동기로 실행해서 실패하면 예외를 그대로 던진다. (빈 생성 실패 -> 시작 중단)
+    @PostConstruct
+    public void start() {
+        load();
+        log.info("토큰 epoch 테이블 초기 적재 완료: size={}", size);
+
+        refreshExecutor = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("user-epoch-refresh-"));
+        refreshExecutor.scheduleWithFixedDelay(this::refresh, refreshDelayMillis, refreshDelayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdownNow();
+        }
+    }
+
+    // 토큰의 epoch 가 현재 유저의 epoch 보다 작다면 폐기된 토큰
+    public boolean isRevoked(long userId, int tokenEpoch) {
+        return tokenEpoch < get(userId);
+    }
+
+    public int get(long userId) {
+        long stamp = lock.tryOptimisticRead();
+        int epoch = find(slots, userId);
+        if (lock.validate(stamp)) {
+            return epoch;
+        }
+
+        stamp = lock.readLock();
+        try {
+            return find(slots, userId);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // 현재 값보다 클 때만 반영 (epoch 는 감소하지 않는다.)
+    public void put(long userId, int epoch) {
+        long stamp = lock.writeLock();
+        try {
+            if ((size + 1) * 4 > slots.userIds.length * 3) {
+                slots = slots.resize();
+            }
+            int slot = slot(slots.userIds, userId);
+            if (slots.userIds[slot] == EMPTY) {
+                slots.userIds[slot] = userId;
+                size++;
+            }
+            slots.epochs[slot] = Math.max(slots.epochs[slot], epoch);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void refresh() {
+        try {
+            load();
+        } catch (RuntimeException e) {
+            // 갱신하지 못한 변경은 watermark 가 그대로이므로 다음 주기에 다시 읽는다.
+            log.warn("토큰 epoch 테이블 갱신 실패", e);
+        }
+    }
+
+    /**
+     * 마지막 갱신 이후 수정된 유저만 (modifiedAt, id) 순서로 batch-size 씩 읽어서 반영한다.
+     * 첫 실행(start)에서는 전체 유저를 읽는다.
+     */
+    private synchronized void load() {
+        LocalDateTime since = watermark.minus(overlap);
+        LocalDateTime lastModifiedAt = since;
+        long lastId = 0L;
+        List<UserEpoch> batch;
+        do {
+            batch = userRepository.findEpochsModifiedAfter(lastModifiedAt, lastId, PageRequest.of(0, batchSize));
+            for (UserEpoch userEpoch : batch) {
+                put(userEpoch.id(), userEpoch.tokenEpoch());
+            }
+            if (!batch.isEmpty()) {
+                UserEpoch last = batch.get(batch.size() - 1);
+                lastModifiedAt = last.modifiedAt();
+                lastId = last.id();
+            }
+        } while (batch.size() == batchSize);
+
+        if (lastModifiedAt.isAfter(watermark)) {
+            watermark = lastModifiedAt;
+        }
+    }
+
+    // 이 인스턴스에서 발생한 변경은 다음 주기를 기다리지 않고 커밋 직후 갱신 스레드에서 반영
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserTokenRevoked(UserTokenRevokedEvent event) {
+        refreshExecutor.execute(this::refresh);
+    }
+
+    private static int find(Slots slots, long userId) {
+        int slot = slot(slots.userIds, userId);
+        return slots.userIds[slot] == userId ? slots.epochs[slot] : 0;
+    }
+
+    private static int slot(long[] userIds, long userId) {
+        int mask = userIds.length - 1;
+        int slot = Long.hashCode(userId * 0x9E3779B97F4A7C15L) & mask;
+        while (userIds[slot] != EMPTY && userIds[slot] != userId) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    // 같은 크기의 id / epoch 배열 한 쌍 (낙관적 읽기 중에 서로 다른 크기의 배열을 보지 않도록 함께 교체)
+    private static class Slots {
+
+        private final long[] userIds;
+        private final int[] epochs;
+
+        Slots(int capacity) {
+            this.userIds = new long[capacity];
+            this.epochs = new int[capacity];
+        }
+
+        Slots resize() {
+            Slots resized = new Slots(userIds.length * 2);
+            for (int i = 0; i < userIds.length; i++) {
+                if (userIds[i] != EMPTY) {
+                    int slot = slot(resized.userIds, userIds[i]);
+                    resized.userIds[slot] = userIds[i];
+                    resized.epochs[slot] = epochs[i];
+                }
+            }
+            return resized;
+        }
+    }
+}
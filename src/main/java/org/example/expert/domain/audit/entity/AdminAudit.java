@@ -0,0 +1,31 @@
+package org.example.expert.domain.audit.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 API 호출 기록 (테이블 정의용 엔티티)
+ * 행은 JPA 가 아닌 AdminAuditWriter 의 multi-row INSERT(JdbcTemplate)로만 추가하기 때문에,
+ * INSERT 시 id를 지정하지 않아도 되는 IDENTITY 전략을 사용한다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(
+        name = "admin_audit",
+        indexes = @Index(name = "idx_admin_audit_user_id_requested_at", columnList = "user_id, requested_at")
+)
+public class AdminAudit {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private Long userId;
+    private String handler;      // 호출된 컨트롤러 메서드 (예: UserAdminController.changeUserRole)
+    private String httpMethod;
+    private String requestUri;
+    private LocalDateTime requestedAt;
+}
@@ -0,0 +1,7 @@
+package org.example.expert.domain.audit.enums;
+
+// 감사 로그 버퍼가 가득 찼을 때의 처리 방식
+public enum AuditOverflowPolicy {
+    DROP,  // 바로 버리고 admin.audit.dropped 증가 (관리자 API 지연 없음)
+    BLOCK  // block-timeout 동안 빈 자리를 기다린 뒤에도 가득 차 있으면 버린다.
+}
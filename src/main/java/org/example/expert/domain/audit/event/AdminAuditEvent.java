@@ -0,0 +1,7 @@
+package org.example.expert.domain.audit.event;
+
+import java.time.LocalDateTime;
+
+// 관리자 API 호출 한 건 (AdminAuditBuffer 에 담았다가 AdminAuditWriter 가 admin_audit 에 저장)
+public record AdminAuditEvent(Long userId, String handler, String httpMethod, String requestUri, LocalDateTime requestedAt) {
+}
@@ -0,0 +1,112 @@
+package org.example.expert.domain.audit.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.expert.domain.audit.enums.AuditOverflowPolicy;
+import org.example.expert.domain.audit.event.AdminAuditEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 관리자 감사 로그용 고정 크기 링 버퍼 (여러 요청 스레드가 넣고, AdminAuditWriter 하나만 꺼낸다.)
+ * <p>
+ * - 넣기: head 를 CAS 로 하나 증가시켜 자리를 확보한 뒤 그 칸에 기록한다. (잠금 없음)
+ * - 꺼내기: tail 칸에 값이 기록되어 있으면 꺼내서 칸을 비우고 tail 을 증가시킨다.
+ *   자리를 확보했지만 아직 기록하지 않은 칸(null)을 만나면 거기서 멈추고 다음 주기에 이어서 꺼낸다.
+ * - head - tail 이 capacity 이상이면 가득 찬 상태이며, overflow-policy 에 따라 버리거나 잠시 기다린다.
+ */
+@Component
+public class AdminAuditBuffer {
+
+    private final AtomicReferenceArray<AdminAuditEvent> slots;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong(); // 다음에 넣을 위치
+    private final AtomicLong tail = new AtomicLong(); // 다음에 꺼낼 위치 (꺼내는 스레드만 변경)
+
+    private final AuditOverflowPolicy overflowPolicy;
+    private final long blockTimeoutNanos;
+    private final Counter droppedCounter;
+    private final AtomicLong dropped = new AtomicLong(); // 누적 버린 수 (AdminAuditWriter 가 주기마다 증가분만 로그로 남긴다.)
+
+    public AdminAuditBuffer(@Value("${admin.audit.buffer-capacity:8192}") int capacity,
+                            @Value("${admin.audit.overflow-policy:DROP}") AuditOverflowPolicy overflowPolicy,
+                            @Value("${admin.audit.block-timeout-millis:50}") long blockTimeoutMillis,
+                            MeterRegistry meterRegistry) {
+        int size = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1; // 2의 거듭제곱으로 올림 (index = sequence & mask)
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(blockTimeoutMillis);
+        this.droppedCounter = Counter.builder("admin.audit.dropped")
+                .description("버퍼가 가득 차서 저장하지 못한 감사 로그 수")
+                .register(meterRegistry);
+        Gauge.builder("admin.audit.buffer.size", this, AdminAuditBuffer::size).register(meterRegistry);
+        Gauge.builder("admin.audit.buffer.capacity", this, buffer -> buffer.slots.length()).register(meterRegistry);
+    }
+
+    // 버퍼가 가득 차서 버렸다면 false
+    public boolean offer(AdminAuditEvent event) {
+        if (tryOffer(event)) {
+            return true;
+        }
+        if (overflowPolicy == AuditOverflowPolicy.BLOCK) {
+            long deadline = System.nanoTime() + blockTimeoutNanos;
+            while (System.nanoTime() < deadline) {
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+                if (tryOffer(event)) {
+                    return true;
+                }
+            }
+        }
+        droppedCounter.increment();
+        dropped.incrementAndGet();
+        return false;
+    }
+
+    // 최대 maxEvents 개를 꺼내서 events 에 추가하고, 꺼낸 개수를 반환 (한 스레드에서만 호출)
+    public int drainTo(List<AdminAuditEvent> events, int maxEvents) {
+        long sequence = tail.get();
+        int drained = 0;
+        while (drained < maxEvents) {
+            int index = (int) (sequence & mask);
+            AdminAuditEvent event = slots.get(index);
+            if (event == null) {
+                break; // 비어 있거나, 자리만 확보되고 아직 기록되지 않은 칸
+            }
+            slots.set(index, null);
+            events.add(event);
+            sequence++;
+            drained++;
+        }
+        tail.set(sequence);
+        return drained;
+    }
+
+    public long droppedCount() {
+        return dropped.get();
+    }
+
+    public long size() {
+        return head.get() - tail.get();
+    }
+
+    private boolean tryOffer(AdminAuditEvent event) {
+        while (true) {
+            long sequence = head.get();
+            if (sequence - tail.get() >= slots.length()) {
+                return false;
+            }
+            if (head.compareAndSet(sequence, sequence + 1)) {
+                slots.set((int) (sequence & mask), event);
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package org.example.expert.domain.audit.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.audit.event.AdminAuditEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 감사 로그 백그라운드 저장
+ * flush-delay 주기로 AdminAuditBuffer 를 비우면서 batch-size 개씩 multi-row INSERT 한 번으로 저장한다.
+ * 관리자 API 요청 스레드는 버퍼에 넣기만 하기 때문에 DB 저장 시간이 응답 시간에 더해지지 않는다.
+ * <p>
+ * 저장에 실패한 묶음은 버리지 않고 다음 주기에 다시 저장하며, 그동안 새로 꺼내지 않기 때문에
+ * DB 장애가 길어지면 버퍼가 가득 차고 overflow-policy 에 따라 처리된다. (admin.audit.dropped)
+ * 버린 건은 요청 스레드가 아닌 이 작업에서, 지난 주기 이후 늘어난 경우에만 한 번 경고 로그로 남긴다.
+ */
+@Slf4j
+@Component
+public class AdminAuditWriter {
+
+    private static final String INSERT_PREFIX = "INSERT INTO admin_audit (user_id, handler, http_method, request_uri, requested_at) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?)";
+
+    private final AdminAuditBuffer buffer;
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final Counter writtenCounter;
+    private final Timer flushTimer;
+
+    private List<AdminAuditEvent> pending = new ArrayList<>(); // 꺼냈지만 아직 저장하지 못한 묶음 (flush 스레드에서만 사용)
+    private long reportedDropped; // 마지막으로 로그를 남긴 시점의 누적 버린 수 (flush 스레드에서만 사용)
+
+    public AdminAuditWriter(AdminAuditBuffer buffer,
+                            JdbcTemplate jdbcTemplate,
+                            @Value("${admin.audit.batch-size:500}") int batchSize,
+                            MeterRegistry meterRegistry) {
+        this.buffer = buffer;
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        this.writtenCounter = Counter.builder("admin.audit.written").register(meterRegistry);
+        this.flushTimer = Timer.builder("admin.audit.flush").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${admin.audit.flush-delay:1000}")
+    public synchronized void flush() {
+        reportDropped();
+        try {
+            do {
+                if (pending.isEmpty()) {
+                    buffer.drainTo(pending, batchSize);
+                }
+                if (pending.isEmpty()) {
+                    return;
+                }
+                flushTimer.record(() -> insert(pending));
+                writtenCounter.increment(pending.size());
+                pending = new ArrayList<>();
+            } while (buffer.size() > 0);
+        } catch (RuntimeException e) {
+            log.warn("감사 로그 저장 실패, 다음 주기에 재시도합니다. pending={}, buffered={}", pending.size(), buffer.size(), e);
+        }
+    }
+
+    private void reportDropped() {
+        long dropped = buffer.droppedCount();
+        if (dropped > reportedDropped) {
+            log.warn("감사 로그 버퍼 초과로 {}건을 저장하지 못했습니다. (누적 {}건)", dropped - reportedDropped, dropped);
+            reportedDropped = dropped;
+        }
+    }
+
+    // 종료 시 버퍼에 남은 감사 로그 저장
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void insert(List<AdminAuditEvent> events) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + events.size() * (ROW_PLACEHOLDER.length() + 2));
+        sql.append(INSERT_PREFIX);
+        Object[] args = new Object[events.size() * 5];
+        int i = 0;
+        for (AdminAuditEvent event : events) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW_PLACEHOLDER);
+            args[i++] = event.userId();
+            args[i++] = event.handler();
+            args[i++] = event.httpMethod();
+            args[i++] = event.requestUri();
+            args[i++] = Timestamp.valueOf(event.requestedAt());
+        }
+        jdbcTemplate.update(sql.toString(), args);
+    }
+}
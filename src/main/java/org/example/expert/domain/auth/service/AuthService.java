@@ -2,6 +2,7 @@ package org.example.expert.domain.auth.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.config.JwtUtil;
+import org.example.expert.config.PasswordHashExecutor;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
@@ -11,27 +12,28 @@ import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * BCrypt 연산은 대기열에서 최대 timeout-millis 동안 기다릴 수 있기 때문에 트랜잭션 안에서 실행하면 그동안 커넥션을 점유한다.
+ * 로그인이 몰리면 커넥션 풀이 바닥나 다른 API까지 막히므로, 이 서비스는 트랜잭션을 열지 않고
+ * 조회/저장은 리포지토리 메서드의 짧은 트랜잭션으로만 처리한다.
+ */
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class AuthService {
 
     private final UserRepository userRepository;
     private final JwtUtil jwtUtil;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashExecutor passwordHashExecutor; // BCrypt 연산은 전용 스레드 풀에서 실행
 
-    @Transactional
     public SignupResponse signup(SignupRequest signupRequest) {
 
         if (userRepository.existsByEmail(signupRequest.getEmail())) {
             throw new InvalidRequestException("이미 존재하는 이메일입니다.");
         }
 
-        String encodedPassword = passwordEncoder.encode(signupRequest.getPassword());
+        String encodedPassword = passwordHashExecutor.encode(signupRequest.getPassword()); // 트랜잭션 밖에서 해시
 
         UserRole userRole = UserRole.of(signupRequest.getUserRole());
 
@@ -41,9 +43,9 @@ public class AuthService {
                 userRole,
                 signupRequest.getNickname()
         );
-        User savedUser = userRepository.save(newUser);
+        User savedUser = userRepository.save(newUser); // save 자체의 짧은 트랜잭션
 
-        String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole, savedUser.getNickname());
+        String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole, savedUser.getNickname(), savedUser.getTokenEpoch());
 
         return new SignupResponse(bearerToken);
     }
@@ -53,11 +55,11 @@ public class AuthService {
                 () -> new InvalidRequestException("가입되지 않은 유저입니다."));
 
         // 로그인 시 이메일과 비밀번호가 일치하지 않을 경우 401을 반환합니다.
-        if (!passwordEncoder.matches(signinRequest.getPassword(), user.getPassword())) {
+        if (!passwordHashExecutor.matches(signinRequest.getPassword(), user.getPassword())) {
             throw new AuthException("잘못된 비밀번호입니다.");
         }
 
-        String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole(), user.getNickname());
+        String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole(), user.getNickname(), user.getTokenEpoch());
 
         return new SigninResponse(bearerToken);
     }
@@ -3,13 +3,18 @@ package org.example.expert.domain.comment.controller;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.response.CommentCursorResponse;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.service.CommentService;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -29,7 +34,30 @@ public class CommentController {
     }
 
     @GetMapping("/todos/{todoId}/comments")
-    public ResponseEntity<List<CommentResponse>> getComments(@PathVariable long todoId) {
-        return ResponseEntity.ok(commentService.getComments(todoId));
+    public ResponseEntity<List<CommentResponse>> getComments(@PathVariable long todoId, WebRequest webRequest) {
+        String eTag = commentService.getCommentsETag(todoId);
+        if (webRequest.checkNotModified(eTag)) { // If-None-Match 값과 같다면 본문 없이 304 반환
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(commentService.getComments(todoId));
+    }
+
+    // 커서 기반 조회: 첫 요청은 cursor 없이, 이후 요청은 응답의 nextCursor 값을 cursor로 전달
+    @GetMapping("/todos/{todoId}/comments/cursor")
+    public ResponseEntity<CommentCursorResponse> getCommentsByCursor(
+            @PathVariable long todoId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(commentService.getCommentsByCursor(todoId, cursor, size));
+    }
+
+    // 전체 댓글을 NDJSON 스트림으로 전송 (별도 스레드에서 읽는 즉시 전송)
+    @GetMapping(value = "/todos/{todoId}/comments/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamComments(@PathVariable long todoId) {
+        StreamingResponseBody body = outputStream -> commentService.writeComments(todoId, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 }
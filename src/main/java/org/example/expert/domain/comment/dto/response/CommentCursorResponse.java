@@ -0,0 +1,19 @@
+package org.example.expert.domain.comment.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class CommentCursorResponse {
+
+    private final List<CommentResponse> contents;
+    private final Long nextCursor; // 다음 페이지 조회 시 cursor로 전달하는 마지막 댓글 id, 마지막 페이지라면 null
+    private final boolean hasNext;
+
+    public CommentCursorResponse(List<CommentResponse> contents, Long nextCursor) {
+        this.contents = contents;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+}
@@ -10,10 +10,16 @@ import org.example.expert.domain.user.entity.User;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "comments")
+@Table(
+        name = "comments",
+        // 일정별 댓글 목록을 id 순서로 조회(커서, 스트리밍)할 때 정렬 없이 인덱스 순서대로 읽는다.
+        indexes = @Index(name = "idx_comments_todo_id_id", columnList = "todo_id, id")
+)
 public class Comment extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_seq_generator")
+    @SequenceGenerator(name = "comment_seq_generator", sequenceName = "comments_seq", allocationSize = 50)
     private Long id;
     private String contents;
 
@@ -0,0 +1,13 @@
+package org.example.expert.domain.comment.repository;
+
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+
+import java.util.List;
+
+public interface CommentCustomRepository {
+    List<CommentResponse> findCommentResponsesByTodoId(Long todoId);
+
+    List<CommentResponse> findCommentResponsesByCursor(Long todoId, Long lastCommentId, int limit);
+
+    String findCommentsVersion(Long todoId);
+}
@@ -0,0 +1,84 @@
+package org.example.expert.domain.comment.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+
+import java.util.List;
+
+import static org.example.expert.domain.comment.entity.QComment.comment;
+import static org.example.expert.domain.user.entity.QUser.user;
+
+@RequiredArgsConstructor
+public class CommentCustomRepositoryImpl implements CommentCustomRepository {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    /**
+     * 댓글 목록은 조회만 하기 때문에 Comment/User 엔티티를 영속성 컨텍스트에 올릴 필요가 없다.
+     * 필요한 컬럼(댓글 id, 내용, 작성자 id, 이메일)만 SELECT 해서 CommentResponse를 바로 생성한다.
+     */
+    @Override
+    public List<CommentResponse> findCommentResponsesByTodoId(Long todoId) {
+        return jpaQueryFactory
+                .select(commentResponse())
+                .from(comment)
+                .join(comment.user, user)
+                .where(comment.todo.id.eq(todoId))
+                .fetch();
+    }
+
+    /**
+     * (todo_id, id) 인덱스를 따라 마지막으로 조회한 댓글 id 다음부터 limit 만큼만 읽는다.
+     * OFFSET 없이 조회하기 때문에 댓글이 아무리 많아도 페이지마다 비용이 같다.
+     */
+    @Override
+    public List<CommentResponse> findCommentResponsesByCursor(Long todoId, Long lastCommentId, int limit) {
+        return jpaQueryFactory
+                .select(commentResponse())
+                .from(comment)
+                .join(comment.user, user)
+                .where(
+                        comment.todo.id.eq(todoId),
+                        idGt(lastCommentId)
+                )
+                .orderBy(comment.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private ConstructorExpression<CommentResponse> commentResponse() {
+        return Projections.constructor(CommentResponse.class,
+                comment.id,
+                comment.contents,
+                Projections.constructor(UserResponse.class, user.id, user.email)
+        );
+    }
+
+    private BooleanExpression idGt(Long lastCommentId) {
+        return lastCommentId != null ? comment.id.gt(lastCommentId) : null;
+    }
+
+    /**
+     * 댓글 목록의 버전 = 댓글 개수 + 가장 큰 댓글 id
+     * 댓글은 수정 API가 없고 추가/삭제만 되기 때문에 두 값이 같다면 목록도 같다.
+     * 댓글 본문을 읽지 않고 todo_id 조건의 COUNT, MAX 만 조회한다.
+     */
+    @Override
+    public String findCommentsVersion(Long todoId) {
+        Tuple result = jpaQueryFactory
+                .select(comment.count(), comment.id.max())
+                .from(comment)
+                .where(comment.todo.id.eq(todoId))
+                .fetchOne();
+
+        Long count = result != null ? result.get(comment.count()) : null;
+        Long maxId = result != null ? result.get(comment.id.max()) : null;
+        return (count != null ? count : 0L) + "-" + (maxId != null ? maxId : 0L);
+    }
+}
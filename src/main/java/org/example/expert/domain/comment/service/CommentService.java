@@ -1,21 +1,29 @@
 package org.example.expert.domain.comment.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.response.CommentCursorResponse;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.util.ETags;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.event.TodoChangedEvent;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 @Service
@@ -23,14 +31,25 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class CommentService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final TodoRepository todoRepository;
     private final CommentRepository commentRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${comment.stream.chunk-size:500}")
+    private int streamChunkSize;
 
     @Transactional
     public CommentSaveResponse saveComment(AuthUser authUser, long todoId, CommentSaveRequest commentSaveRequest) {
         User user = User.fromAuthUser(authUser);
-        Todo todo = todoRepository.findById(todoId).orElseThrow(() ->
-                new InvalidRequestException("Todo not found"));
+
+        // 댓글 수 증가가 곧 일정 존재 확인 -> 일정을 따로 SELECT 하지 않고 참조(프록시)만 사용
+        if (todoRepository.incrementCommentCount(todoId) == 0) {
+            throw new InvalidRequestException("Todo not found");
+        }
+        Todo todo = todoRepository.getReferenceById(todoId);
 
         Comment newComment = new Comment(
                 commentSaveRequest.getContents(),
@@ -39,6 +58,7 @@ public class CommentService {
         );
 
         Comment savedComment = commentRepository.save(newComment);
+        eventPublisher.publishEvent(new TodoChangedEvent(todoId)); // 읽기 모델의 댓글 수 갱신
 
         return new CommentSaveResponse(
                 savedComment.getId(),
@@ -47,19 +67,50 @@ public class CommentService {
         );
     }
 
+    // 댓글 목록의 ETag (댓글 개수, 최대 id만 조회)
+    public String getCommentsETag(long todoId) {
+        return ETags.of(todoId + "-" + commentRepository.findCommentsVersion(todoId));
+    }
+
     public List<CommentResponse> getComments(long todoId) {
-        List<Comment> commentList = commentRepository.findByTodoIdWithUser(todoId);
-
-        List<CommentResponse> dtoList = new ArrayList<>();
-        for (Comment comment : commentList) {
-            User user = comment.getUser();
-            CommentResponse dto = new CommentResponse(
-                    comment.getId(),
-                    comment.getContents(),
-                    new UserResponse(user.getId(), user.getEmail())
-            );
-            dtoList.add(dto);
+        return commentRepository.findCommentResponsesByTodoId(todoId);
+    }
+
+    // 댓글 조회 (커서 기반)
+    public CommentCursorResponse getCommentsByCursor(long todoId, Long cursor, int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new InvalidRequestException("size는 1 이상 " + MAX_CURSOR_PAGE_SIZE + " 이하만 가능합니다.");
         }
-        return dtoList;
+
+        // 다음 페이지 존재 여부를 COUNT 없이 판단하기 위해 size + 1 개를 조회한다.
+        List<CommentResponse> comments = commentRepository.findCommentResponsesByCursor(todoId, cursor, size + 1);
+
+        boolean hasNext = comments.size() > size;
+        List<CommentResponse> contents = hasNext ? comments.subList(0, size) : comments;
+        Long nextCursor = hasNext ? contents.get(contents.size() - 1).getId() : null;
+
+        return new CommentCursorResponse(contents, nextCursor);
+    }
+
+    /**
+     * 댓글 전체를 NDJSON(한 줄에 JSON 하나)으로 전송
+     * 커서 조회와 같은 (todo_id, id) 키셋 조회로 chunk-size 만큼씩 읽어서 쓰기 때문에 댓글 수와 상관없이 메모리 사용량이 일정하다.
+     * 트랜잭션 없이 조각마다 짧게 조회하므로, 클라이언트가 느리게 받아도 전송하는 동안에는 커넥션을 점유하지 않는다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void writeComments(long todoId, OutputStream outputStream) throws IOException {
+        Long lastCommentId = null;
+        List<CommentResponse> chunk;
+        do {
+            chunk = commentRepository.findCommentResponsesByCursor(todoId, lastCommentId, streamChunkSize);
+            for (CommentResponse comment : chunk) {
+                outputStream.write(objectMapper.writeValueAsBytes(comment));
+                outputStream.write('\n');
+            }
+            outputStream.flush();
+            if (!chunk.isEmpty()) {
+                lastCommentId = chunk.get(chunk.size() - 1).getId();
+            }
+        } while (chunk.size() == streamChunkSize);
     }
 }
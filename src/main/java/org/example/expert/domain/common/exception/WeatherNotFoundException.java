@@ -0,0 +1,9 @@
+package org.example.expert.domain.common.exception;
+
+// 날씨 데이터는 정상적으로 받아왔지만 해당 날짜가 데이터에 없는 경우 (일시적인 조회 실패와 구분)
+public class WeatherNotFoundException extends ServerException {
+
+    public WeatherNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.expert.domain.common.util;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 조건부 조회(If-None-Match)에 사용하는 강한(strong) ETag 생성
+ * 응답 본문 전체를 해시하지 않고 id와 수정 시간(버전)만으로 만들기 때문에 변경 여부 확인에 전체 조회가 필요 없다.
+ */
+public final class ETags {
+
+    private ETags() {
+    }
+
+    public static String of(long id, LocalDateTime modifiedAt) {
+        return of(id + "-" + toVersion(modifiedAt));
+    }
+
+    // 수정 시간을 바꾸지 않고 변경되는 값(카운터 등)이 있다면 함께 포함한다.
+    public static String of(long id, LocalDateTime modifiedAt, long... counters) {
+        StringBuilder version = new StringBuilder().append(id).append('-').append(toVersion(modifiedAt));
+        for (long counter : counters) {
+            version.append('-').append(Long.toHexString(counter));
+        }
+        return of(version.toString());
+    }
+
+    public static String of(String version) {
+        return "\"" + version + "\"";
+    }
+
+    private static String toVersion(LocalDateTime modifiedAt) {
+        if (modifiedAt == null) {
+            return "0";
+        }
+        long epochNanos = modifiedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + modifiedAt.getNano();
+        return Long.toHexString(epochNanos);
+    }
+}
@@ -3,6 +3,7 @@ package org.example.expert.domain.manager.controller;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.manager.dto.request.ManagerBatchSaveRequest;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
@@ -28,6 +29,16 @@ public class ManagerController {
         return ResponseEntity.ok(managerService.saveManager(authUser, todoId, managerSaveRequest));
     }
 
+    // 여러 유저를 한 번에 담당자로 등록 (이미 등록된 유저는 건너뛰고 새로 등록된 담당자만 반환)
+    @PostMapping("/todos/{todoId}/managers/batch")
+    public ResponseEntity<List<ManagerSaveResponse>> saveManagers(
+            @AuthenticationPrincipal AuthUser authUser,
+            @PathVariable long todoId,
+            @Valid @RequestBody ManagerBatchSaveRequest managerBatchSaveRequest
+    ) {
+        return ResponseEntity.ok(managerService.saveManagers(authUser, todoId, managerBatchSaveRequest));
+    }
+
     @GetMapping("/todos/{todoId}/managers")
     public ResponseEntity<List<ManagerResponse>> getMembers(@PathVariable long todoId) {
         return ResponseEntity.ok(managerService.getManagers(todoId));
@@ -9,10 +9,18 @@ import org.example.expert.domain.user.entity.User;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "managers")
+@Table(
+        name = "managers",
+        // 같은 유저를 같은 일정에 중복 등록하지 못하도록 DB에서 보장 (동시 요청 포함), 일정별 담당자 조회에도 사용
+        uniqueConstraints = @UniqueConstraint(name = Manager.UK_TODO_ID_USER_ID, columnNames = {"todo_id", "user_id"})
+)
 public class Manager {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    public static final String UK_TODO_ID_USER_ID = "uk_managers_todo_id_user_id";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "manager_seq_generator")
+    @SequenceGenerator(name = "manager_seq_generator", sequenceName = "managers_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,9 @@
+package org.example.expert.domain.manager.repository;
+
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+
+import java.util.List;
+
+public interface ManagerCustomRepository {
+    List<ManagerResponse> findManagerResponsesByTodoId(Long todoId);
+}
@@ -0,0 +1,32 @@
+package org.example.expert.domain.manager.repository;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+
+import java.util.List;
+
+import static org.example.expert.domain.manager.entity.QManager.manager;
+import static org.example.expert.domain.user.entity.QUser.user;
+
+@RequiredArgsConstructor
+public class ManagerCustomRepositoryImpl implements ManagerCustomRepository {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    // 담당자 id와 담당 유저의 id, 이메일만 SELECT 해서 ManagerResponse로 바로 생성
+    @Override
+    public List<ManagerResponse> findManagerResponsesByTodoId(Long todoId) {
+        return jpaQueryFactory
+                .select(Projections.constructor(ManagerResponse.class,
+                        manager.id,
+                        Projections.constructor(UserResponse.class, user.id, user.email)
+                ))
+                .from(manager)
+                .join(manager.user, user)
+                .where(manager.todo.id.eq(todoId))
+                .fetch();
+    }
+}
@@ -2,12 +2,24 @@ package org.example.expert.domain.manager.repository;
 
 import org.example.expert.domain.manager.entity.Manager;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
-public interface ManagerRepository extends JpaRepository<Manager, Long> {
-    @Query("SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id = :todoId")
-    List<Manager> findByTodoIdWithUser(@Param("todoId") Long todoId);
+public interface ManagerRepository extends JpaRepository<Manager, Long>, ManagerCustomRepository {
+    // 이미 담당자로 등록된 유저 id만 조회 (일괄 등록 시 중복 제외)
+    @Query("SELECT m.user.id FROM Manager m WHERE m.todo.id = :todoId AND m.user.id IN :userIds")
+    List<Long> findUserIdsByTodoIdAndUserIdIn(@Param("todoId") Long todoId, @Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @Query("DELETE FROM Manager m WHERE m.id = :managerId")
+    int deleteByIdInBulk(@Param("managerId") Long managerId);
+
+    // 일정 삭제 시 해당 일정의 담당자를 행 수와 상관없이 DELETE 한 번으로 삭제
+    @Modifying
+    @Query("DELETE FROM Manager m WHERE m.todo.id = :todoId")
+    int deleteAllByTodoIdInBulk(@Param("todoId") Long todoId);
 }
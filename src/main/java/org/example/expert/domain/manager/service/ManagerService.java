@@ -2,23 +2,37 @@ package org.example.expert.domain.manager.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.ConflictException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.request.ManagerBatchSaveRequest;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.event.TodoChangedEvent;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoOwnershipGuard;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ObjectUtils;
 
-import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -28,17 +42,15 @@ public class ManagerService {
     private final ManagerRepository managerRepository;
     private final UserRepository userRepository;
     private final TodoRepository todoRepository;
+    private final TodoOwnershipGuard todoOwnershipGuard;
+    private final ApplicationEventPublisher eventPublisher; // 읽기 모델(todo_view)의 담당자 수 갱신
 
     @Transactional
     public ManagerSaveResponse saveManager(AuthUser authUser, long todoId, ManagerSaveRequest managerSaveRequest) {
         // 일정을 만든 유저
         User user = User.fromAuthUser(authUser);
-        Todo todo = todoRepository.findById(todoId)
-                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
-
-        if (todo.getUser() == null || !ObjectUtils.nullSafeEquals(user.getId(), todo.getUser().getId())) {
-            throw new InvalidRequestException("담당자를 등록하려고 하는 유저가 유효하지 않거나, 일정을 만든 유저가 아닙니다.");
-        }
+        todoOwnershipGuard.requireOwner(todoId, user.getId(), "담당자를 등록하려고 하는 유저가 유효하지 않거나, 일정을 만든 유저가 아닙니다.");
+        Todo todo = todoRepository.getReferenceById(todoId); // 존재 확인은 끝났으므로 SELECT 없이 참조만 사용
 
         User managerUser = userRepository.findById(managerSaveRequest.getManagerUserId())
                 .orElseThrow(() -> new InvalidRequestException("등록하려고 하는 담당자 유저가 존재하지 않습니다."));
@@ -48,7 +60,9 @@ public class ManagerService {
         }
 
         Manager newManagerUser = new Manager(managerUser, todo);
-        Manager savedManagerUser = managerRepository.save(newManagerUser);
+        Manager savedManagerUser = saveOrConflict(() -> managerRepository.saveAndFlush(newManagerUser));
+        todoRepository.incrementManagerCount(todoId);
+        eventPublisher.publishEvent(new TodoChangedEvent(todoId));
 
         return new ManagerSaveResponse(
                 savedManagerUser.getId(),
@@ -60,37 +74,89 @@ public class ManagerService {
         Todo todo = todoRepository.findById(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
 
-        List<Manager> managerList = managerRepository.findByTodoIdWithUser(todo.getId());
-
-        List<ManagerResponse> dtoList = new ArrayList<>();
-        for (Manager manager : managerList) {
-            User user = manager.getUser();
-            dtoList.add(new ManagerResponse(
-                    manager.getId(),
-                    new UserResponse(user.getId(), user.getEmail())
-            ));
-        }
-        return dtoList;
+        return managerRepository.findManagerResponsesByTodoId(todo.getId());
     }
 
+    /**
+     * 담당자 일괄 등록
+     * 작성자 확인 1번, 유저 존재 확인(IN) 1번, 기존 담당자 확인(IN) 1번 조회한 뒤
+     * 새로 등록할 담당자만 saveAll 로 배치 INSERT 한다. 이미 등록된 유저는 건너뛴다.
+     * 동시에 같은 유저를 등록하는 요청이 겹치면 (todo_id, user_id) 유니크 제약으로 한 쪽만 성공한다.
+     */
     @Transactional
-    public void deleteManager(AuthUser authUser, long todoId, long managerId) {
+    public List<ManagerSaveResponse> saveManagers(AuthUser authUser, long todoId, ManagerBatchSaveRequest managerBatchSaveRequest) {
         User user = User.fromAuthUser(authUser);
+        todoOwnershipGuard.requireOwner(todoId, user.getId(), "담당자를 등록하려고 하는 유저가 유효하지 않거나, 일정을 만든 유저가 아닙니다.");
 
-        Todo todo = todoRepository.findById(todoId)
-                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+        Set<Long> requestedIds = new LinkedHashSet<>(managerBatchSaveRequest.getManagerUserIds()); // 요청 안의 중복 제거 (순서 유지)
+        if (requestedIds.contains(user.getId())) {
+            throw new InvalidRequestException("일정 작성자는 본인을 담당자로 등록할 수 없습니다.");
+        }
+
+        Map<Long, User> usersById = userRepository.findAllById(requestedIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        if (usersById.size() != requestedIds.size()) {
+            List<Long> missingIds = requestedIds.stream().filter(id -> !usersById.containsKey(id)).toList();
+            throw new InvalidRequestException("등록하려고 하는 담당자 유저가 존재하지 않습니다: " + missingIds);
+        }
 
-        if (todo.getUser() == null || !ObjectUtils.nullSafeEquals(user.getId(), todo.getUser().getId())) {
-            throw new InvalidRequestException("해당 일정을 만든 유저가 유효하지 않습니다.");
+        Set<Long> existingIds = new HashSet<>(managerRepository.findUserIdsByTodoIdAndUserIdIn(todoId, requestedIds));
+        Todo todo = todoRepository.getReferenceById(todoId);
+        List<Manager> newManagers = requestedIds.stream()
+                .filter(id -> !existingIds.contains(id))
+                .map(id -> new Manager(usersById.get(id), todo))
+                .toList();
+        if (newManagers.isEmpty()) {
+            return List.of();
         }
 
-        Manager manager = managerRepository.findById(managerId)
-                .orElseThrow(() -> new InvalidRequestException("Manager not found"));
+        List<Manager> savedManagers = saveOrConflict(() -> managerRepository.saveAllAndFlush(newManagers));
+        todoRepository.addManagerCount(todoId, savedManagers.size());
+        eventPublisher.publishEvent(new TodoChangedEvent(todoId));
+
+        return savedManagers.stream()
+                .map(manager -> new ManagerSaveResponse(
+                        manager.getId(),
+                        new UserResponse(manager.getUser().getId(), manager.getUser().getEmail())
+                ))
+                .toList();
+    }
+
+    /**
+     * 바로 flush 해서 (todo_id, user_id) 유니크 제약 위반을 이 자리에서 확인하고, 이미 등록된 담당자라면 409(ConflictException)로 변환한다.
+     * NOT NULL, FK 등 다른 무결성 오류는 그대로 던져서 500으로 처리된다.
+     */
+    private <T> T saveOrConflict(Supplier<T> save) {
+        try {
+            return save.get();
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateManager(e)) {
+                throw new ConflictException("이미 등록된 담당자입니다.");
+            }
+            throw e;
+        }
+    }
 
-        if (!ObjectUtils.nullSafeEquals(todo.getId(), manager.getTodo().getId())) {
-            throw new InvalidRequestException("해당 일정에 등록된 담당자가 아닙니다.");
+    private static boolean isDuplicateManager(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                String constraintName = violation.getConstraintName();
+                String target = constraintName != null ? constraintName : String.valueOf(violation.getSQLException().getMessage());
+                return target.toLowerCase(Locale.ROOT).contains(Manager.UK_TODO_ID_USER_ID);
+            }
         }
+        return false;
+    }
+
+    @Transactional
+    public void deleteManager(AuthUser authUser, long todoId, long managerId) {
+        User user = User.fromAuthUser(authUser);
+
+        // 일정 작성자 확인 + 담당자 소속 확인을 쿼리 한 번으로 처리
+        todoOwnershipGuard.requireOwnerAndManager(todoId, user.getId(), managerId, "해당 일정을 만든 유저가 유효하지 않습니다.");
 
-        managerRepository.delete(manager);
+        managerRepository.deleteByIdInBulk(managerId);
+        todoRepository.decrementManagerCount(todoId);
+        eventPublisher.publishEvent(new TodoChangedEvent(todoId));
     }
 }
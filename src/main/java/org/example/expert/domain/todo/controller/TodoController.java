@@ -3,16 +3,23 @@ package org.example.expert.domain.todo.controller;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.dto.request.TodoBatchSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoViewResponse;
+import org.example.expert.domain.todo.enums.TodoCountMode;
 import org.example.expert.domain.todo.service.TodoService;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
@@ -28,19 +35,74 @@ public class TodoController {
         return ResponseEntity.ok(todoService.saveTodo(authUser, todoSaveRequest));
     }
 
+    @PostMapping("/todos/batch")
+    public ResponseEntity<List<TodoSaveResponse>> saveTodos(
+            @AuthenticationPrincipal AuthUser authUser,
+            @Valid @RequestBody TodoBatchSaveRequest todoBatchSaveRequest
+    ) {
+        return ResponseEntity.ok(todoService.saveTodos(authUser, todoBatchSaveRequest));
+    }
+
+    // countMode: EXACT(기본값) | APPROX | NONE -> NONE 이라면 totalElements 없이 hasNext만 응답
     @GetMapping("/todos")
-    public ResponseEntity<Page<TodoResponse>> getTodos(
+    public ResponseEntity<Slice<TodoResponse>> getTodos(
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String weather,
+            @RequestParam(required = false) LocalDateTime startAt,
+            @RequestParam(required = false) LocalDateTime endAt,
+            @RequestParam(defaultValue = "EXACT") TodoCountMode countMode
+    ) {
+        return ResponseEntity.ok(todoService.getTodos(page, size, weather, startAt, endAt, countMode));
+    }
+
+    // 읽기 모델(todo_view) 기반 목록 조회: 작성자 닉네임, 댓글/담당자 수 포함 (최대 수 초 지연)
+    @GetMapping("/todos/view")
+    public ResponseEntity<Slice<TodoViewResponse>> getTodoViews(
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(required = false) String weather,
             @RequestParam(required = false) LocalDateTime startAt,
             @RequestParam(required = false) LocalDateTime endAt
     ) {
-        return ResponseEntity.ok(todoService.getTodos(page, size, weather, startAt, endAt));
+        return ResponseEntity.ok(todoService.getTodoViews(page, size, weather, startAt, endAt));
+    }
+
+    // 커서 기반 조회: 첫 요청은 cursor 없이, 이후 요청은 응답의 next 값을 cursor로 전달
+    @GetMapping("/todos/cursor")
+    public ResponseEntity<TodoCursorResponse> getTodosByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String weather,
+            @RequestParam(required = false) LocalDateTime startAt,
+            @RequestParam(required = false) LocalDateTime endAt
+    ) {
+        return ResponseEntity.ok(todoService.getTodosByCursor(cursor, size, weather, startAt, endAt));
+    }
+
+    // 제목, 내용 검색: q 는 공백으로 구분, 단어 끝에 * 를 붙이면 접두어 검색 (예: q=spring boo*)
+    @GetMapping("/todos/search")
+    public ResponseEntity<List<TodoResponse>> searchTodos(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(todoService.searchTodos(q, size));
     }
 
     @GetMapping("/todos/{todoId}")
-    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId) {
-        return ResponseEntity.ok(todoService.getTodo(todoId));
+    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId, WebRequest webRequest) {
+        String eTag = todoService.getTodoETag(todoId);
+        if (webRequest.checkNotModified(eTag)) { // If-None-Match 값과 같다면 본문 없이 304 반환
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(todoService.getTodo(todoId));
+    }
+
+    @DeleteMapping("/todos/{todoId}")
+    public void deleteTodo(
+            @AuthenticationPrincipal AuthUser authUser,
+            @PathVariable long todoId
+    ) {
+        todoService.deleteTodo(authUser, todoId);
     }
 }
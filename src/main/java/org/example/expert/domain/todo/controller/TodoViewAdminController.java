@@ -0,0 +1,24 @@
+package org.example.expert.domain.todo.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.exception.ConflictException;
+import org.example.expert.domain.todo.service.TodoViewProjector;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class TodoViewAdminController {
+
+    private final TodoViewProjector todoViewProjector;
+
+    // 읽기 모델(todo_view) 전체 재생성 -> 백그라운드에서 시작하고 바로 202 반환 (이미 진행 중이라면 409)
+    @PostMapping("/admin/todos/view/rebuild")
+    public ResponseEntity<Void> rebuildTodoView() {
+        if (!todoViewProjector.startRebuild()) {
+            throw new ConflictException("읽기 모델 재생성이 이미 진행 중입니다.");
+        }
+        return ResponseEntity.accepted().build();
+    }
+}
@@ -0,0 +1,49 @@
+package org.example.expert.domain.todo.dto.request;
+
+import lombok.Getter;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이지네이션에서 "마지막으로 조회한 행"의 위치를 나타낸다.
+ * (modifiedAt, id) 조합으로 정렬 순서를 유일하게 만들기 때문에 같은 수정 시간을 가진 일정이 여러 개여도 누락/중복이 없다.
+ * 클라이언트에게는 내부 구조를 노출하지 않도록 Base64(URL-safe) 문자열로 인코딩한 불투명(opaque) 토큰으로 전달한다.
+ */
+@Getter
+public class TodoCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime modifiedAt;
+    private final Long id;
+
+    public TodoCursor(LocalDateTime modifiedAt, Long id) {
+        this.modifiedAt = modifiedAt;
+        this.id = id;
+    }
+
+    public String encode() {
+        String raw = modifiedAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // cursor 값이 없다면 첫 페이지를 의미하므로 null을 반환
+    public static TodoCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            return new TodoCursor(
+                    LocalDateTime.parse(raw.substring(0, index)),
+                    Long.valueOf(raw.substring(index + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new InvalidRequestException("유효하지 않은 cursor 입니다.");
+        }
+    }
+}
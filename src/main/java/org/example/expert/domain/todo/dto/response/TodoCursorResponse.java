@@ -0,0 +1,19 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TodoCursorResponse {
+
+    private final List<TodoResponse> contents;
+    private final String next; // 다음 페이지 조회 시 그대로 전달하는 cursor, 마지막 페이지라면 null
+    private final boolean hasNext;
+
+    public TodoCursorResponse(List<TodoResponse> contents, String next) {
+        this.contents = contents;
+        this.next = next;
+        this.hasNext = next != null;
+    }
+}
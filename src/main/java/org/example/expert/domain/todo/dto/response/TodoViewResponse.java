@@ -0,0 +1,34 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class TodoViewResponse {
+
+    private final Long id;
+    private final String title;
+    private final String weather;
+    private final Long ownerId;
+    private final String ownerEmail;
+    private final String ownerNickname;
+    private final long commentCount;
+    private final long managerCount;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime modifiedAt;
+
+    public TodoViewResponse(Long id, String title, String weather, Long ownerId, String ownerEmail, String ownerNickname,
+                            long commentCount, long managerCount, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this.id = id;
+        this.title = title;
+        this.weather = weather;
+        this.ownerId = ownerId;
+        this.ownerEmail = ownerEmail;
+        this.ownerNickname = ownerNickname;
+        this.commentCount = commentCount;
+        this.managerCount = managerCount;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+    }
+}
@@ -6,22 +6,55 @@ import lombok.NoArgsConstructor;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.enums.WeatherStatus;
 import org.example.expert.domain.user.entity.User;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Getter
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "todo") // 단건 조회(findById)가 많은 엔티티이므로 2차 캐시에 보관, JPQL 벌크 수정/삭제 시에는 Hibernate가 영역 전체를 무효화한다. (카운터 증감, 단건 삭제는 네이티브 쿼리로 해당 일정만 제거)
 @NoArgsConstructor
-@Table(name = "todos")
+@Table(
+        name = "todos",
+        indexes = {
+                // 날씨 조건 + 수정일 정렬/범위 조회
+                @Index(name = "idx_todos_weather_modified_at", columnList = "weather, modified_at"),
+                // 조건 없는 수정일 정렬 및 (modifiedAt, id) 커서 조회
+                @Index(name = "idx_todos_modified_at_id", columnList = "modified_at, id"),
+                // 날씨 보강 작업 큐(PENDING) 조회
+                @Index(name = "idx_todos_weather_status_id", columnList = "weather_status, id")
+        }
+)
 public class Todo extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    /**
+     * IDENTITY 전략은 INSERT를 실행해야 id를 알 수 있어서 Hibernate가 JDBC 배치 INSERT를 사용하지 않는다.
+     * 시퀀스(MySQL은 todos_seq 테이블로 대체)에서 id를 50개씩 미리 할당받아(pooled) 배치 INSERT가 가능하도록 한다.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todo_seq_generator")
+    @SequenceGenerator(name = "todo_seq_generator", sequenceName = "todos_seq", allocationSize = 50)
     private Long id;
     private String title;
     private String contents;
     private String weather;
+    @Enumerated(EnumType.STRING)
+    private WeatherStatus weatherStatus;
+
+    /**
+     * 목록 조회에서 댓글/담당자 수를 COUNT 없이 보여주기 위한 비정규화 컬럼
+     * 값은 엔티티가 아닌 TodoRepository의 UPDATE ... SET x = x + 1 로만 변경하고,
+     * 어긋난 값은 TodoCounterReconciliationWorker가 주기적으로 바로잡는다.
+     */
+    @Column(nullable = false)
+    private long commentCount;
+    @Column(nullable = false)
+    private long managerCount;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
@@ -41,6 +74,7 @@ public class Todo extends Timestamped {
         this.title = title;
         this.contents = contents;
         this.weather = weather;
+        this.weatherStatus = weather != null ? WeatherStatus.RESOLVED : WeatherStatus.PENDING; // 날씨 없이 저장하면 보강 대기
         this.user = user;
 
         /**
@@ -53,5 +87,16 @@ public class Todo extends Timestamped {
          * 예) Manager Entity에 동기화 코드 (편의 메서드) todo.getManagers().add(this);
          */
         this.managers.add(new Manager(user, this));
+        this.managerCount = 1;
+    }
+
+    // 백그라운드 작업에서 날씨를 채운다.
+    public void resolveWeather(String weather) {
+        this.weather = weather;
+        this.weatherStatus = WeatherStatus.RESOLVED;
+    }
+
+    public void markWeatherUnavailable() {
+        this.weatherStatus = WeatherStatus.UNAVAILABLE;
     }
 }
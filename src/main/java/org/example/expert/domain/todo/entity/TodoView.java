@@ -0,0 +1,90 @@
+package org.example.expert.domain.todo.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일정 목록 조회 전용 읽기 모델 (todos + users + 댓글/담당자 수를 펼쳐 놓은 테이블)
+ * 쓰기는 TodoViewProjector 만 하며, 원본(todos)이 변경되고 커밋된 뒤 비동기로 갱신된다.
+ * 목록 조회는 JOIN 없이 이 테이블 하나만 읽고, 조건/정렬 컬럼은 인덱스로 처리한다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(
+        name = "todo_view",
+        indexes = {
+                // 조건 없는 수정일 정렬
+                @Index(name = "idx_todo_view_modified_at_todo_id", columnList = "modified_at, todo_id"),
+                // 날씨 조건 + 수정일 정렬/범위 조회
+                @Index(name = "idx_todo_view_weather_modified_at_todo_id", columnList = "weather, modified_at, todo_id")
+        }
+)
+public class TodoView implements Persistable<Long> {
+
+    @Id
+    private Long todoId; // todos.id 를 그대로 사용
+    private String title;
+    private String weather;
+    private LocalDateTime createdAt;
+    private LocalDateTime modifiedAt;
+    private Long ownerId;
+    private String ownerEmail;
+    private String ownerNickname;
+    private long commentCount;
+    private long managerCount;
+    private LocalDateTime refreshedAt; // 마지막으로 원본에서 갱신한 시간 (지연 확인용)
+
+    // id를 직접 지정하기 때문에 save() 가 merge(SELECT 후 INSERT)로 동작하지 않도록 새 엔티티 여부를 직접 관리
+    @Transient
+    private boolean newEntity = true;
+
+    public TodoView(Long todoId, String title, String weather, LocalDateTime createdAt, LocalDateTime modifiedAt,
+                    Long ownerId, String ownerEmail, String ownerNickname, long commentCount, long managerCount) {
+        this.todoId = todoId;
+        this.title = title;
+        this.weather = weather;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+        this.ownerId = ownerId;
+        this.ownerEmail = ownerEmail;
+        this.ownerNickname = ownerNickname;
+        this.commentCount = commentCount;
+        this.managerCount = managerCount;
+        this.refreshedAt = LocalDateTime.now();
+    }
+
+    // 원본에서 다시 읽은 값으로 갱신 (변경 감지로 UPDATE)
+    public void refresh(TodoView source) {
+        this.title = source.title;
+        this.weather = source.weather;
+        this.createdAt = source.createdAt;
+        this.modifiedAt = source.modifiedAt;
+        this.ownerId = source.ownerId;
+        this.ownerEmail = source.ownerEmail;
+        this.ownerNickname = source.ownerNickname;
+        this.commentCount = source.commentCount;
+        this.managerCount = source.managerCount;
+        this.refreshedAt = source.refreshedAt;
+    }
+
+    @Override
+    public Long getId() {
+        return todoId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+}
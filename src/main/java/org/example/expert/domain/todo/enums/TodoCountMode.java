@@ -0,0 +1,8 @@
+package org.example.expert.domain.todo.enums;
+
+// 일정 목록 조회 시 전체 개수(totalElements)를 계산하는 방식
+public enum TodoCountMode {
+    EXACT,  // 매 요청마다 COUNT 쿼리 실행
+    APPROX, // 조건 조합별로 캐시된 COUNT 값을 사용 (주기적으로 갱신)
+    NONE    // COUNT 없이 다음 페이지 존재 여부(hasNext)만 반환 (무한 스크롤)
+}
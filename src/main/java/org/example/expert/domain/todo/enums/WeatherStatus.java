@@ -0,0 +1,8 @@
+package org.example.expert.domain.todo.enums;
+
+public enum WeatherStatus {
+
+    PENDING,     // 일정은 저장되었지만 날씨가 아직 채워지지 않은 상태 (작업 큐에 대기 중)
+    RESOLVED,    // 날씨가 채워진 상태
+    UNAVAILABLE  // 해당 날짜의 날씨 데이터가 없어 채울 수 없는 상태
+}
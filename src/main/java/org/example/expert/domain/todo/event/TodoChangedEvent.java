@@ -0,0 +1,5 @@
+package org.example.expert.domain.todo.event;
+
+// 일정 또는 일정의 댓글/담당자가 변경됨 (커밋 이후 읽기 모델 갱신에 사용)
+public record TodoChangedEvent(Long todoId) {
+}
@@ -0,0 +1,5 @@
+package org.example.expert.domain.todo.event;
+
+// 일정 삭제 이벤트 (커밋 이후 검색 색인에서 제거하는 데 사용)
+public record TodoDeletedEvent(Long todoId) {
+}
@@ -0,0 +1,5 @@
+package org.example.expert.domain.todo.event;
+
+// 일정 저장 이벤트 (커밋 이후 검색 색인 등 부가 작업에서 사용)
+public record TodoSavedEvent(Long todoId, String title, String contents) {
+}
@@ -0,0 +1,30 @@
+package org.example.expert.domain.todo.repository;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import org.example.expert.domain.todo.entity.Todo;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 네이티브 쿼리로 변경/삭제한 일정 하나만 2차 캐시에서 제거한다. (TodoCounterRepositoryImpl, TodoDeleteRepositoryImpl 에서 사용)
+ * 커밋 전에 다른 트랜잭션이 이전 값을 다시 캐시에 올릴 수 있으므로 트랜잭션이 끝난 뒤에도 한 번 더 제거한다.
+ */
+final class TodoCacheEvictor {
+
+    private TodoCacheEvictor() {
+    }
+
+    static void evict(EntityManager entityManager, Long todoId) {
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        cache.evict(Todo.class, todoId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.evict(Todo.class, todoId);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package org.example.expert.domain.todo.repository;
+
+public interface TodoCounterRepository {
+    int incrementCommentCount(Long todoId);
+
+    int incrementManagerCount(Long todoId);
+
+    int addManagerCount(Long todoId, long count);
+
+    int decrementManagerCount(Long todoId);
+}
@@ -0,0 +1,58 @@
+package org.example.expert.domain.todo.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.query.NativeQuery;
+
+/**
+ * 댓글/담당자 수 증감
+ * 엔티티를 읽어서 값을 바꾸지 않고 DB에서 x = x + 1 로 계산하기 때문에 동시에 요청이 와도 증가분이 유실되지 않는다.
+ * 반환값(변경된 행 수)이 0 이라면 일정이 존재하지 않는다.
+ * <p>
+ * JPQL 벌크 UPDATE 는 Hibernate가 todo 2차 캐시 영역 전체를 무효화하기 때문에 댓글/담당자가 추가될 때마다 모든 일정의 캐시가 사라진다.
+ * 그래서 엔티티 테이블과 겹치지 않는 query space 를 지정한 네이티브 UPDATE 로 실행하고(영역 무효화 없음), 변경된 일정 하나만 캐시에서 제거한다.
+ * 대신 커밋 전에 다른 트랜잭션이 이전 값을 다시 캐시에 올릴 수 있으므로 커밋 후에도 한 번 더 제거한다.
+ * (그 사이 잠깐은 이전 카운터 값이 조회될 수 있다.)
+ */
+@RequiredArgsConstructor
+public class TodoCounterRepositoryImpl implements TodoCounterRepository {
+
+    private static final String COUNTER_QUERY_SPACE = "todo_counters"; // 어떤 엔티티 테이블과도 겹치지 않는 이름
+
+    private final EntityManager entityManager;
+
+    @Override
+    public int incrementCommentCount(Long todoId) {
+        return updateCounter("UPDATE todos SET comment_count = comment_count + 1 WHERE id = :todoId", todoId, null);
+    }
+
+    @Override
+    public int incrementManagerCount(Long todoId) {
+        return addManagerCount(todoId, 1);
+    }
+
+    @Override
+    public int addManagerCount(Long todoId, long count) {
+        return updateCounter("UPDATE todos SET manager_count = manager_count + :count WHERE id = :todoId", todoId, count);
+    }
+
+    @Override
+    public int decrementManagerCount(Long todoId) {
+        return updateCounter("UPDATE todos SET manager_count = manager_count - 1 WHERE id = :todoId AND manager_count > 0", todoId, null);
+    }
+
+    private int updateCounter(String sql, Long todoId, Long count) {
+        NativeQuery<?> query = entityManager.createNativeQuery(sql).unwrap(NativeQuery.class);
+        query.addSynchronizedQuerySpace(COUNTER_QUERY_SPACE);
+        query.setParameter("todoId", todoId);
+        if (count != null) {
+            query.setParameter("count", count);
+        }
+
+        int updated = query.executeUpdate();
+        if (updated > 0) {
+            TodoCacheEvictor.evict(entityManager, todoId);
+        }
+        return updated;
+    }
+}
@@ -1,9 +1,33 @@
 package org.example.expert.domain.todo.repository;
 
+import org.example.expert.domain.todo.dto.request.TodoCursor;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.entity.TodoView;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.LongSupplier;
 
 public interface TodoCustomRepository {
     Optional<Todo> findByIdWithUser(Long todoId);
+
+    Page<TodoResponse> findTodos(String weather, LocalDateTime startAt, LocalDateTime endAt, Pageable pageable);
+
+    Page<TodoResponse> findTodos(String weather, LocalDateTime startAt, LocalDateTime endAt, Pageable pageable, LongSupplier totalSupplier);
+
+    Slice<TodoResponse> findTodoSlice(String weather, LocalDateTime startAt, LocalDateTime endAt, Pageable pageable);
+
+    List<TodoResponse> findTodosByIds(Collection<Long> todoIds);
+
+    List<TodoView> findTodoViewSources(Collection<Long> todoIds);
+
+    long countTodos(String weather, LocalDateTime startAt, LocalDateTime endAt);
+
+    List<TodoResponse> findTodosByCursor(String weather, LocalDateTime startAt, LocalDateTime endAt, TodoCursor cursor, int limit);
 }
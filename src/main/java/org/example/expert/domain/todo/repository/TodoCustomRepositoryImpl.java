@@ -1,11 +1,30 @@
 package org.example.expert.domain.todo.repository;
 
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.dto.request.TodoCursor;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.entity.QTodo;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.entity.TodoView;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.LongSupplier;
+
+import static org.example.expert.domain.todo.entity.QTodo.todo;
+import static org.example.expert.domain.user.entity.QUser.user;
 
 @RequiredArgsConstructor
 //@Repository // Spring bean으로 등록하기 위한 Repository 어노테이션
@@ -47,4 +66,167 @@ public class TodoCustomRepositoryImpl implements TodoCustomRepository {
                 .fetchOne();
         return Optional.ofNullable(result);
     }
+
+    /**
+     * 동적 조건 조회
+     * -> 기존 JPQL의 (:weather IS NULL OR t.weather = :weather) 형태는 모든 조건 조합이 같은 실행 계획을 공유해서
+     *    MySQL이 (weather, modified_at) 같은 인덱스를 제대로 고르지 못한다.
+     * -> 실제로 전달된 조건만 where 절에 추가해서 조건 조합마다 알맞은 인덱스를 사용할 수 있게 한다.
+     * <p>
+     * PageableExecutionUtils.getPage()
+     * -> 첫 페이지의 결과가 size 보다 작거나 마지막 페이지인 경우 COUNT 쿼리를 생략한다.
+     */
+    @Override
+    public Page<TodoResponse> findTodos(String weather, LocalDateTime startAt, LocalDateTime endAt, Pageable pageable) {
+        return findTodos(weather, startAt, endAt, pageable, () -> countTodos(weather, startAt, endAt));
+    }
+
+    // 전체 개수를 구하는 방법(정확한 COUNT, 캐시된 값 등)을 호출하는 쪽에서 정한다.
+    @Override
+    public Page<TodoResponse> findTodos(String weather, LocalDateTime startAt, LocalDateTime endAt, Pageable pageable, LongSupplier totalSupplier) {
+        List<TodoResponse> contents = fetchTodos(weather, startAt, endAt, pageable.getOffset(), pageable.getPageSize());
+
+        return PageableExecutionUtils.getPage(contents, pageable, totalSupplier);
+    }
+
+    /**
+     * COUNT 없는 조회 (Slice)
+     * -> size + 1 개를 조회해서 한 개가 더 있으면 다음 페이지가 있다고 판단한다.
+     */
+    @Override
+    public Slice<TodoResponse> findTodoSlice(String weather, LocalDateTime startAt, LocalDateTime endAt, Pageable pageable) {
+        int size = pageable.getPageSize();
+        List<TodoResponse> contents = fetchTodos(weather, startAt, endAt, pageable.getOffset(), size + 1);
+
+        boolean hasNext = contents.size() > size;
+        return new SliceImpl<>(hasNext ? contents.subList(0, size) : contents, pageable, hasNext);
+    }
+
+    // 검색 결과 조회: 순서는 호출하는 쪽(검색 점수 순)에서 맞춘다.
+    @Override
+    public List<TodoResponse> findTodosByIds(Collection<Long> todoIds) {
+        return jpaQueryFactory
+                .select(todoResponse())
+                .from(todo)
+                .leftJoin(todo.user, user)
+                .where(todo.id.in(todoIds))
+                .fetch();
+    }
+
+    // 읽기 모델(todo_view) 갱신용 원본 조회: 아직 영속화되지 않은 TodoView 로 바로 생성한다.
+    @Override
+    public List<TodoView> findTodoViewSources(Collection<Long> todoIds) {
+        return jpaQueryFactory
+                .select(Projections.constructor(TodoView.class,
+                        todo.id,
+                        todo.title,
+                        todo.weather,
+                        todo.createdAt,
+                        todo.modifiedAt,
+                        user.id,
+                        user.email,
+                        user.nickname,
+                        todo.commentCount,
+                        todo.managerCount
+                ))
+                .from(todo)
+                .join(todo.user, user)
+                .where(todo.id.in(todoIds))
+                .fetch();
+    }
+
+    // COUNT 에는 User가 필요 없으므로 JOIN 없이 todos 테이블만 조회
+    @Override
+    public long countTodos(String weather, LocalDateTime startAt, LocalDateTime endAt) {
+        Long count = jpaQueryFactory
+                .select(todo.count())
+                .from(todo)
+                .where(
+                        weatherEq(weather),
+                        modifiedAtGoe(startAt),
+                        modifiedAtLoe(endAt)
+                )
+                .fetchOne();
+        return count != null ? count : 0L;
+    }
+
+    private List<TodoResponse> fetchTodos(String weather, LocalDateTime startAt, LocalDateTime endAt, long offset, int limit) {
+        return jpaQueryFactory
+                .select(todoResponse())
+                .from(todo)
+                .leftJoin(todo.user, user)
+                .where(
+                        weatherEq(weather),
+                        modifiedAtGoe(startAt),
+                        modifiedAtLoe(endAt)
+                )
+                .orderBy(todo.modifiedAt.desc())
+                .offset(offset)
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 커서(Keyset) 기반 조회
+     * -> OFFSET은 건너뛸 행을 모두 읽은 뒤 버리기 때문에 뒤 페이지로 갈수록 느려진다.
+     * -> 마지막으로 조회한 (modifiedAt, id) 보다 "뒤에 있는" 행부터 limit 만큼만 읽으므로 몇 번째 페이지든 비용이 같다.
+     * <p>
+     * where 절에 null 이 전달되면 QueryDSL이 해당 조건을 무시하기 때문에 필요한 조건만 조합된다.
+     */
+    @Override
+    public List<TodoResponse> findTodosByCursor(String weather, LocalDateTime startAt, LocalDateTime endAt, TodoCursor cursor, int limit) {
+        return jpaQueryFactory
+                .select(todoResponse())
+                .from(todo)
+                .leftJoin(todo.user, user)
+                .where(
+                        weatherEq(weather),
+                        modifiedAtGoe(startAt),
+                        modifiedAtLoe(endAt),
+                        afterCursor(cursor)
+                )
+                .orderBy(todo.modifiedAt.desc(), todo.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * Projections.constructor()
+     * -> 엔티티를 영속성 컨텍스트에 올리지 않고 필요한 컬럼만 SELECT 해서 응답 DTO를 바로 생성한다.
+     * -> 변경할 일이 없는 목록 조회에서 엔티티 스냅샷(Dirty Checking용)과 비밀번호 같은 불필요한 컬럼을 읽지 않는다.
+     */
+    private ConstructorExpression<TodoResponse> todoResponse() {
+        return Projections.constructor(TodoResponse.class,
+                todo.id,
+                todo.title,
+                todo.contents,
+                todo.weather,
+                Projections.constructor(UserResponse.class, user.id, user.email),
+                todo.createdAt,
+                todo.modifiedAt,
+                todo.commentCount,
+                todo.managerCount
+        );
+    }
+
+    private BooleanExpression weatherEq(String weather) {
+        return weather != null ? todo.weather.eq(weather) : null;
+    }
+
+    private BooleanExpression modifiedAtGoe(LocalDateTime startAt) {
+        return startAt != null ? todo.modifiedAt.goe(startAt) : null;
+    }
+
+    private BooleanExpression modifiedAtLoe(LocalDateTime endAt) {
+        return endAt != null ? todo.modifiedAt.loe(endAt) : null;
+    }
+
+    // (modifiedAt, id) < (cursor.modifiedAt, cursor.id) 를 풀어서 작성
+    private BooleanExpression afterCursor(TodoCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return todo.modifiedAt.lt(cursor.getModifiedAt())
+                .or(todo.modifiedAt.eq(cursor.getModifiedAt()).and(todo.id.lt(cursor.getId())));
+    }
 }
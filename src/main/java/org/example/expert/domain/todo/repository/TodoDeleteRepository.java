@@ -0,0 +1,5 @@
+package org.example.expert.domain.todo.repository;
+
+public interface TodoDeleteRepository {
+    int deleteByIdInBulk(Long todoId);
+}
@@ -0,0 +1,35 @@
+package org.example.expert.domain.todo.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.query.NativeQuery;
+
+/**
+ * 일정 단건 삭제
+ * 엔티티를 로딩하지 않고 DELETE 한 번으로 삭제한다. (댓글/담당자는 TodoService 에서 먼저 벌크 DELETE)
+ * <p>
+ * JPQL 벌크 DELETE 는 Hibernate가 todo 2차 캐시 영역 전체를 무효화하기 때문에 일정 하나를 지울 때마다 모든 일정의 캐시가 사라진다.
+ * 카운터 증감(TodoCounterRepositoryImpl)과 같이 엔티티 테이블과 겹치지 않는 query space 를 지정한 네이티브 DELETE 로 실행하고,
+ * 삭제된 일정 하나만 캐시에서 제거한다.
+ */
+@RequiredArgsConstructor
+public class TodoDeleteRepositoryImpl implements TodoDeleteRepository {
+
+    private static final String DELETE_QUERY_SPACE = "todo_deletes"; // 어떤 엔티티 테이블과도 겹치지 않는 이름
+
+    private final EntityManager entityManager;
+
+    @Override
+    public int deleteByIdInBulk(Long todoId) {
+        NativeQuery<?> query = entityManager.createNativeQuery("DELETE FROM todos WHERE id = :todoId").unwrap(NativeQuery.class);
+        query.addSynchronizedQuerySpace(DELETE_QUERY_SPACE);
+        query.setParameter("todoId", todoId);
+
+        int deleted = query.executeUpdate();
+        entityManager.clear(); // 벌크 연산은 영속성 컨텍스트를 거치지 않기 때문에 실행 후 영속성 컨텍스트를 비운다.
+        if (deleted > 0) {
+            TodoCacheEvictor.evict(entityManager, todoId);
+        }
+        return deleted;
+    }
+}
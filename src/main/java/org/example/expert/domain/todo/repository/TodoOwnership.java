@@ -0,0 +1,5 @@
+package org.example.expert.domain.todo.repository;
+
+// 권한 확인용: 일정 작성자 id, (요청한) 담당자가 속한 일정 id (담당자가 없다면 null)
+public record TodoOwnership(Long ownerId, Long managerTodoId) {
+}
@@ -1,34 +1,104 @@
 package org.example.expert.domain.todo.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.example.expert.domain.todo.entity.Todo;
-import org.springframework.data.domain.Page;
+import org.example.expert.domain.todo.enums.WeatherStatus;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 // 인터페이스는 여러 개를 구현(implements)이 아닌 상속(extends) 할 수 있다. 하지만 클래스는 불가능! 오직 여러 개의 인터페이스를 구현(implements) 할 수 있다.
-public interface TodoRepository extends JpaRepository<Todo, Long>, TodoCustomRepository {
+// 일정 목록 조회(findTodos)는 전달된 조건만으로 쿼리를 만들기 위해 TodoCustomRepositoryImpl(QueryDSL)에서 구현한다.
+public interface TodoRepository extends JpaRepository<Todo, Long>, TodoCustomRepository, TodoCounterRepository, TodoDeleteRepository {
 
     /**
-     * 파라미터에 날씨의 값(weather)이 있을 수도 있고 없을(null) 수도 있다라고 조건을 건 후
-     * And로 조회할 수정시간의 범위 값을 추가로 받는다.
-     * 범위의 시작을 선언한 시작시간(startAt)과 범위의 끝을 선언한 끝시간(endAt)이 있을 수도 있고 없을(null) 수도 있다.
-     * 시작시간 혹은 끝 시간 둘 중 하나의 값만 입력 받을 수도 있기에 between 보다는 연산자를 사용하여 조건을 걸었다.
+     * 날씨 보강 작업 큐에서 한 번에 처리할 일정을 가져온다.
+     * FOR UPDATE SKIP LOCKED(lock.timeout = -2) 로 조회해서 여러 인스턴스의 워커가 같은 행을 중복 처리하지 않는다.
      */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT t FROM Todo t WHERE t.weatherStatus = :weatherStatus ORDER BY t.id")
+    List<Todo> findByWeatherStatusForUpdate(@Param("weatherStatus") WeatherStatus weatherStatus, Pageable pageable);
+
+    // 잠금 없이 대기 중인 일정의 생성 시간만 조회 (트랜잭션을 열기 전에 필요한 날짜의 날씨를 미리 받아 둔다.)
+    @Query("SELECT t.createdAt FROM Todo t WHERE t.weatherStatus = :weatherStatus ORDER BY t.id")
+    List<LocalDateTime> findCreatedAtByWeatherStatus(@Param("weatherStatus") WeatherStatus weatherStatus, Pageable pageable);
+
+    // ETag 계산용: 일정 전체가 아닌 수정 시간, 댓글/담당자 수 컬럼만 조회
+    @Query("SELECT new org.example.expert.domain.todo.repository.TodoVersion(t.modifiedAt, t.commentCount, t.managerCount) FROM Todo t WHERE t.id = :todoId")
+    Optional<TodoVersion> findVersionById(@Param("todoId") Long todoId);
+
+    // 작성자 확인용: 일정 엔티티를 로딩하지 않고 작성자 id만 조회
+    @Query("SELECT t.user.id FROM Todo t WHERE t.id = :todoId")
+    Optional<Long> findUserIdById(@Param("todoId") Long todoId);
+
+    // 작성자 id와 담당자가 속한 일정 id를 한 번에 조회 (담당자 삭제 권한 확인용)
+    @Query("""
+            SELECT new org.example.expert.domain.todo.repository.TodoOwnership(t.user.id, m.todo.id)
+            FROM Todo t LEFT JOIN Manager m ON m.id = :managerId
+            WHERE t.id = :todoId
+            """)
+    Optional<TodoOwnership> findOwnershipWithManager(@Param("todoId") Long todoId, @Param("managerId") Long managerId);
+
+    // 검색 색인 재생성용: 최신 일정부터 id 역순으로 필요한 컬럼만 조회
+    @Query("SELECT new org.example.expert.domain.todo.repository.TodoSearchDocument(t.id, t.title, t.contents) FROM Todo t WHERE t.id < :beforeId ORDER BY t.id DESC")
+    List<TodoSearchDocument> findSearchDocumentsBefore(@Param("beforeId") Long beforeId, Pageable pageable);
+
+    // 읽기 모델 재생성용: id 순서로 keyset 조회
+    @Query("SELECT t.id FROM Todo t WHERE t.id > :lastId ORDER BY t.id")
+    List<Long> findIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("SELECT MAX(t.id) FROM Todo t")
+    Optional<Long> findMaxId();
+
+    /**
+     * 댓글/담당자 수 보정 대상 조회 (id 범위 단위)
+     * 실제 행 수와 다른 일정 id를 먼저 조회해서, 보정 후 읽기 모델(todo_view)에도 변경을 알릴 수 있게 한다.
+     */
+    @Query("""
+            SELECT t.id FROM Todo t
+            WHERE t.id >= :fromId AND t.id < :toId
+              AND t.commentCount <> (SELECT COUNT(c) FROM Comment c WHERE c.todo.id = t.id)
+            """)
+    List<Long> findIdsWithStaleCommentCount(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Query("""
+            SELECT t.id FROM Todo t
+            WHERE t.id >= :fromId AND t.id < :toId
+              AND t.managerCount <> (SELECT COUNT(m) FROM Manager m WHERE m.todo.id = t.id)
+            """)
+    List<Long> findIdsWithStaleManagerCount(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /**
+     * 댓글/담당자 수 보정
+     * 조회와 UPDATE 사이에 값이 맞춰졌을 수 있으므로 여전히 실제 행 수와 다른 일정만 UPDATE 하고, 보정된 일정 수를 반환한다.
+     * JPQL 벌크 UPDATE 이므로 todo 2차 캐시 영역 전체가 무효화되지만, 하루 한 번 새벽에만 실행되므로 감수한다.
+     */
+    @Modifying
+    @Query("""
+            UPDATE Todo t
+            SET t.commentCount = (SELECT COUNT(c) FROM Comment c WHERE c.todo.id = t.id)
+            WHERE t.id IN :todoIds
+              AND t.commentCount <> (SELECT COUNT(c) FROM Comment c WHERE c.todo.id = t.id)
+            """)
+    int reconcileCommentCounts(@Param("todoIds") Collection<Long> todoIds);
+
+    @Modifying
     @Query("""
-            SELECT t
-            FROM Todo t
-            LEFT JOIN FETCH t.user u
-            WHERE (:weather IS NULL OR t.weather = :weather)
-            AND (:startAt IS NULL OR t.modifiedAt >= :startAt)
-            AND (:endAt IS NULL OR t.modifiedAt <= :endAt)
-            ORDER BY t.modifiedAt DESC
+            UPDATE Todo t
+            SET t.managerCount = (SELECT COUNT(m) FROM Manager m WHERE m.todo.id = t.id)
+            WHERE t.id IN :todoIds
+              AND t.managerCount <> (SELECT COUNT(m) FROM Manager m WHERE m.todo.id = t.id)
             """)
-    Page<Todo> findTodos(@Param("weather") String weather,
-                         @Param("startAt") LocalDateTime startAt,
-                         @Param("endAt") LocalDateTime endAt,
-                         Pageable pageable);
+    int reconcileManagerCounts(@Param("todoIds") Collection<Long> todoIds);
 }
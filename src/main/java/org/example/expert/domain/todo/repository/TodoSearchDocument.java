@@ -0,0 +1,5 @@
+package org.example.expert.domain.todo.repository;
+
+// 검색 색인 재생성 시 일정 엔티티 대신 조회하는 컬럼
+public record TodoSearchDocument(Long id, String title, String contents) {
+}
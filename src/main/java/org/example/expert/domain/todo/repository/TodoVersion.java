@@ -0,0 +1,7 @@
+package org.example.expert.domain.todo.repository;
+
+import java.time.LocalDateTime;
+
+// 일정 단건 조회 ETag 계산용 컬럼 (댓글/담당자 수는 수정 시간을 바꾸지 않고 증가하기 때문에 함께 비교한다.)
+public record TodoVersion(LocalDateTime modifiedAt, long commentCount, long managerCount) {
+}
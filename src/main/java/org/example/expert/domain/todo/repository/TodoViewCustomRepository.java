@@ -0,0 +1,11 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.domain.todo.dto.response.TodoViewResponse;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
+
+public interface TodoViewCustomRepository {
+    Slice<TodoViewResponse> findTodoViews(String weather, LocalDateTime startAt, LocalDateTime endAt, Pageable pageable);
+}
@@ -0,0 +1,69 @@
+package org.example.expert.domain.todo.repository;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.dto.response.TodoViewResponse;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.example.expert.domain.todo.entity.QTodoView.todoView;
+
+@RequiredArgsConstructor
+public class TodoViewCustomRepositoryImpl implements TodoViewCustomRepository {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    /**
+     * 읽기 모델 목록 조회
+     * -> todo_view 한 테이블만 읽기 때문에 JOIN 이 없고, 작성자 닉네임과 댓글/담당자 수도 추가 쿼리 없이 함께 조회된다.
+     * -> COUNT 없이 size + 1 개를 조회해서 다음 페이지 여부만 판단한다.
+     */
+    @Override
+    public Slice<TodoViewResponse> findTodoViews(String weather, LocalDateTime startAt, LocalDateTime endAt, Pageable pageable) {
+        int size = pageable.getPageSize();
+        List<TodoViewResponse> contents = jpaQueryFactory
+                .select(Projections.constructor(TodoViewResponse.class,
+                        todoView.todoId,
+                        todoView.title,
+                        todoView.weather,
+                        todoView.ownerId,
+                        todoView.ownerEmail,
+                        todoView.ownerNickname,
+                        todoView.commentCount,
+                        todoView.managerCount,
+                        todoView.createdAt,
+                        todoView.modifiedAt
+                ))
+                .from(todoView)
+                .where(
+                        weatherEq(weather),
+                        modifiedAtGoe(startAt),
+                        modifiedAtLoe(endAt)
+                )
+                .orderBy(todoView.modifiedAt.desc(), todoView.todoId.desc())
+                .offset(pageable.getOffset())
+                .limit(size + 1)
+                .fetch();
+
+        boolean hasNext = contents.size() > size;
+        return new SliceImpl<>(hasNext ? contents.subList(0, size) : contents, pageable, hasNext);
+    }
+
+    private BooleanExpression weatherEq(String weather) {
+        return weather != null ? todoView.weather.eq(weather) : null;
+    }
+
+    private BooleanExpression modifiedAtGoe(LocalDateTime startAt) {
+        return startAt != null ? todoView.modifiedAt.goe(startAt) : null;
+    }
+
+    private BooleanExpression modifiedAtLoe(LocalDateTime endAt) {
+        return endAt != null ? todoView.modifiedAt.loe(endAt) : null;
+    }
+}
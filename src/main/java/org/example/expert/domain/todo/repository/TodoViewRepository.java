@@ -0,0 +1,14 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.domain.todo.entity.TodoView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface TodoViewRepository extends JpaRepository<TodoView, Long>, TodoViewCustomRepository {
+
+    // 전체 재생성 후 원본 일정이 없는 행 정리
+    @Modifying
+    @Query("DELETE FROM TodoView v WHERE NOT EXISTS (SELECT t.id FROM Todo t WHERE t.id = v.todoId)")
+    int deleteOrphans();
+}
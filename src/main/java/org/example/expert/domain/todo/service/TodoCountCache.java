@@ -0,0 +1,49 @@
+package org.example.expert.domain.todo.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 일정 목록 조건 조합(weather, startAt, endAt)별 COUNT 캐시 (countMode=APPROX)
+ * <p>
+ * - 처음 조회한 조건은 COUNT를 한 번 실행해서 캐시한다.
+ * - refresh-after 가 지난 뒤 조회되면 기존 값을 바로 반환하고, COUNT는 백그라운드에서 다시 실행해서 갱신한다.
+ *   그래서 요청 스레드는 첫 조회 이후로 COUNT를 기다리지 않는다.
+ * - expire-after-access 동안 조회되지 않은 조건은 제거되어, 더 이상 쓰이지 않는 조건은 갱신하지 않는다.
+ */
+@Component
+public class TodoCountCache {
+
+    private final LoadingCache<CountKey, Long> cache;
+
+    public TodoCountCache(
+            TodoRepository todoRepository,
+            MeterRegistry meterRegistry,
+            @Value("${todo.count-cache.maximum-size:1000}") long maximumSize,
+            @Value("${todo.count-cache.refresh-after:60s}") Duration refreshAfter,
+            @Value("${todo.count-cache.expire-after-access:10m}") Duration expireAfterAccess
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .refreshAfterWrite(refreshAfter)
+                .expireAfterAccess(expireAfterAccess)
+                .recordStats()
+                .build(key -> todoRepository.countTodos(key.weather(), key.startAt(), key.endAt()));
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "todo.count");
+    }
+
+    public long get(String weather, LocalDateTime startAt, LocalDateTime endAt) {
+        return cache.get(new CountKey(weather, startAt, endAt));
+    }
+
+    private record CountKey(String weather, LocalDateTime startAt, LocalDateTime endAt) {
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.event.TodoChangedEvent;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * 일정의 댓글/담당자 수(비정규화 컬럼) 보정 작업
+ * 증감 UPDATE 누락, 벌크 삭제 등으로 실제 행 수와 어긋난 값을 id 범위(batch-size) 단위로 나눠서 바로잡는다.
+ * 범위마다 트랜잭션을 따로 사용하기 때문에 한 번에 잡는 행 잠금과 실행 시간이 batch-size 로 제한된다.
+ * 보정한 일정은 TodoChangedEvent 를 발행해서 커밋 후 읽기 모델(todo_view)에도 반영되게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodoCounterReconciliationWorker {
+
+    private final TodoRepository todoRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${todo.counter-reconciliation.batch-size:1000}")
+    private int batchSize;
+
+    @Scheduled(cron = "${todo.counter-reconciliation.cron:0 30 3 * * *}")
+    public void reconcile() {
+        try {
+            Long maxId = todoRepository.findMaxId().orElse(null);
+            if (maxId == null) {
+                return;
+            }
+
+            long fixedComments = 0;
+            long fixedManagers = 0;
+            for (long start = 0; start <= maxId; start += batchSize) {
+                long fromId = start;
+                long toId = start + batchSize;
+                fixedComments += reconcileRange(() -> todoRepository.findIdsWithStaleCommentCount(fromId, toId), todoRepository::reconcileCommentCounts);
+                fixedManagers += reconcileRange(() -> todoRepository.findIdsWithStaleManagerCount(fromId, toId), todoRepository::reconcileManagerCounts);
+            }
+
+            if (fixedComments > 0 || fixedManagers > 0) {
+                log.info("일정 카운터 보정 완료: commentCount {}건, managerCount {}건", fixedComments, fixedManagers);
+            }
+        } catch (RuntimeException e) {
+            // 보정하지 못한 범위는 다음 주기에 다시 확인한다.
+            log.warn("일정 카운터 보정 실패, 다음 주기에 재시도합니다.", e);
+        }
+    }
+
+    // 어긋난 일정 id 조회 -> 해당 id만 UPDATE -> 변경 이벤트 발행을 한 트랜잭션에서 처리한다.
+    private int reconcileRange(Supplier<List<Long>> findStaleIds, ToIntFunction<List<Long>> reconcile) {
+        Integer fixed = transactionTemplate.execute(status -> {
+            List<Long> staleIds = findStaleIds.get();
+            if (staleIds.isEmpty()) {
+                return 0;
+            }
+            int updated = reconcile.applyAsInt(staleIds);
+            staleIds.forEach(todoId -> eventPublisher.publishEvent(new TodoChangedEvent(todoId)));
+            return updated;
+        });
+        return fixed != null ? fixed : 0;
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.repository.TodoOwnership;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ObjectUtils;
+import org.springframework.web.context.annotation.RequestScope;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 일정 작성자 / 담당자 소속 확인 (일정, 댓글, 담당자 서비스에서 공통으로 사용)
+ * <p>
+ * 엔티티를 조회해서 연관 엔티티를 지연 로딩으로 따라가지 않고, PK 인덱스로 필요한 id 컬럼만 한 번에 조회한다.
+ * 확인 결과는 요청 범위(@RequestScope)에 보관하기 때문에 한 요청 안에서 같은 일정을 여러 번 확인해도 쿼리는 한 번만 실행된다.
+ * (HTTP 요청 스레드에서만 사용 가능)
+ */
+@Component
+@RequestScope
+@RequiredArgsConstructor
+public class TodoOwnershipGuard {
+
+    private final TodoRepository todoRepository;
+    private final Map<Long, Long> ownerIdsByTodoId = new HashMap<>();
+
+    // 일정이 존재하고 userId 가 작성자인지 확인
+    public void requireOwner(long todoId, long userId, String message) {
+        if (!ObjectUtils.nullSafeEquals(userId, findOwnerId(todoId))) {
+            throw new InvalidRequestException(message);
+        }
+    }
+
+    /**
+     * 일정 작성자 확인 + 담당자가 해당 일정 소속인지 확인을 쿼리 한 번으로 처리
+     * (일정 LEFT JOIN 담당자 -> 작성자 id, 담당자의 일정 id)
+     */
+    public void requireOwnerAndManager(long todoId, long userId, long managerId, String message) {
+        TodoOwnership ownership = todoRepository.findOwnershipWithManager(todoId, managerId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+        ownerIdsByTodoId.put(todoId, ownership.ownerId());
+
+        if (!ObjectUtils.nullSafeEquals(userId, ownership.ownerId())) {
+            throw new InvalidRequestException(message);
+        }
+        if (ownership.managerTodoId() == null) {
+            throw new InvalidRequestException("Manager not found");
+        }
+        if (ownership.managerTodoId() != todoId) {
+            throw new InvalidRequestException("해당 일정에 등록된 담당자가 아닙니다.");
+        }
+    }
+
+    private Long findOwnerId(long todoId) {
+        Long ownerId = ownerIdsByTodoId.get(todoId);
+        if (ownerId == null) {
+            ownerId = todoRepository.findUserIdById(todoId)
+                    .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+            ownerIdsByTodoId.put(todoId, ownerId);
+        }
+        return ownerId;
+    }
+}
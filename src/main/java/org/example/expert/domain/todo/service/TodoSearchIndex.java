@@ -0,0 +1,443 @@
+package org.example.expert.domain.todo.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.event.TodoDeletedEvent;
+import org.example.expert.domain.todo.event.TodoSavedEvent;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.repository.TodoSearchDocument;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 일정 제목/내용 전문 검색용 메모리 역색인 (LIKE '%x%' 전체 스캔 대신 사용)
+ * <p>
+ * - 색인어(소문자, 글자/숫자 단위로 분리) -> (일정 id, 출현 횟수) 목록을 long[] / int[] 배열로 보관한다.
+ * - 점수는 TF-IDF((1 + log tf) * log(1 + N / df))의 합이며, 제목에 나온 색인어는 출현 횟수를 TITLE_WEIGHT 배로 센다.
+ * - 검색어 끝에 '*' 를 붙이면 접두어 검색이며, 정렬된 색인어 사전(TreeMap)에서 범위로 찾는다.
+ * - 전체 posting 수가 max-postings 를 넘으면 더 이상 색인하지 않는다. (재생성 시에는 최신 일정부터 채운다.)
+ * <p>
+ * 애플리케이션 시작 시와 rebuild-cron 주기로 DB에서 다시 만들고, 그 사이에는 저장 트랜잭션이 커밋된 일정만 추가한다.
+ * 삭제가 커밋된 일정은 삭제 표시(tombstone)만 남겨서 검색 점수 계산에서 제외하고(상위 limit 개 자리를 차지하지 않도록),
+ * posting 은 다음 재생성 때 정리된다.
+ */
+@Slf4j
+@Component
+public class TodoSearchIndex {
+
+    private static final int MAX_TERM_LENGTH = 40;
+    private static final int MAX_PREFIX_TERMS = 100; // 접두어 하나가 확장되는 최대 색인어 수
+    private static final int TITLE_WEIGHT = 2;
+
+    private final TodoRepository todoRepository;
+    private final long maxPostings;
+    private final int rebuildBatchSize;
+    private final Counter rejected;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Segment segment = new Segment(); // lock 으로 보호
+    private List<TodoSearchDocument> addedDuringRebuild; // null 이 아니라면 재생성 중, lock 으로 보호
+    private List<Long> removedDuringRebuild; // 재생성 중 삭제된 일정 id, lock 으로 보호
+
+    public TodoSearchIndex(
+            TodoRepository todoRepository,
+            MeterRegistry meterRegistry,
+            @Value("${todo.search.max-postings:5000000}") long maxPostings,
+            @Value("${todo.search.rebuild-batch-size:1000}") int rebuildBatchSize
+    ) {
+        this.todoRepository = todoRepository;
+        this.maxPostings = maxPostings;
+        this.rebuildBatchSize = rebuildBatchSize;
+        this.rejected = Counter.builder("todo.search.index.rejected")
+                .description("max-postings 초과로 색인하지 못한 일정 수")
+                .register(meterRegistry);
+        Gauge.builder("todo.search.index.documents", this, index -> index.read(segment -> segment.documentCount))
+                .register(meterRegistry);
+        Gauge.builder("todo.search.index.terms", this, index -> index.read(segment -> segment.postingsByTerm.size()))
+                .register(meterRegistry);
+        Gauge.builder("todo.search.index.postings", this, index -> index.read(segment -> segment.postingCount))
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Scheduled(cron = "${todo.search.rebuild-cron:0 0 4 * * *}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * DB에서 새 색인을 만든 뒤 교체한다. 만드는 동안에는 기존 색인으로 검색하고,
+     * 그 사이에 커밋된 일정은 따로 모아 두었다가 교체 직전에 새 색인에도 추가한다.
+     */
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            if (addedDuringRebuild != null) {
+                return; // 이미 재생성 중
+            }
+            addedDuringRebuild = new ArrayList<>();
+            removedDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Segment rebuilt = new Segment();
+        try {
+            long beforeId = Long.MAX_VALUE;
+            boolean full = false;
+            List<TodoSearchDocument> batch;
+            do {
+                batch = todoRepository.findSearchDocumentsBefore(beforeId, PageRequest.of(0, rebuildBatchSize));
+                for (TodoSearchDocument document : batch) {
+                    if (!rebuilt.add(document, maxPostings)) {
+                        full = true;
+                        break;
+                    }
+                }
+                if (!batch.isEmpty()) {
+                    beforeId = batch.get(batch.size() - 1).id();
+                }
+            } while (!full && batch.size() == rebuildBatchSize);
+            rebuilt.trimToSize();
+
+            if (full) {
+                log.warn("검색 색인이 max-postings({})에 도달해 오래된 일정 일부가 색인되지 않았습니다.", maxPostings);
+            }
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                addedDuringRebuild = null;
+                removedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.warn("검색 색인 재생성 실패, 기존 색인을 유지합니다.", e);
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (TodoSearchDocument document : addedDuringRebuild) {
+                rebuilt.add(document, maxPostings);
+            }
+            for (Long todoId : removedDuringRebuild) {
+                rebuilt.remove(todoId);
+            }
+            segment = rebuilt;
+            addedDuringRebuild = null;
+            removedDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("검색 색인 재생성 완료: documents={}, terms={}, postings={}",
+                rebuilt.documentCount, rebuilt.postingsByTerm.size(), rebuilt.postingCount);
+    }
+
+    // 롤백된 일정이 색인되지 않도록 커밋 이후에 추가한다.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTodoSaved(TodoSavedEvent event) {
+        add(new TodoSearchDocument(event.todoId(), event.title(), event.contents()));
+    }
+
+    public void add(TodoSearchDocument document) {
+        lock.writeLock().lock();
+        try {
+            if (addedDuringRebuild != null) {
+                addedDuringRebuild.add(document);
+            }
+            if (!segment.add(document, maxPostings)) {
+                rejected.increment();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTodoDeleted(TodoDeletedEvent event) {
+        remove(event.todoId());
+    }
+
+    public void remove(long todoId) {
+        lock.writeLock().lock();
+        try {
+            if (removedDuringRebuild != null) {
+                removedDuringRebuild.add(todoId);
+            }
+            segment.remove(todoId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 점수가 높은 순서로 최대 limit 개의 일정 id를 반환한다.
+     * 예) "spring boot" -> 두 단어의 점수 합, "spr*" -> spr 로 시작하는 모든 색인어
+     */
+    public List<Long> search(String query, int limit) {
+        List<QueryTerm> queryTerms = parseQuery(query);
+        if (queryTerms.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            LongDoubleMap scores = new LongDoubleMap();
+            for (QueryTerm queryTerm : queryTerms) {
+                if (queryTerm.prefix()) {
+                    int expanded = 0;
+                    for (Postings postings : segment.postingsByTerm.subMap(queryTerm.term(), queryTerm.term() + Character.MAX_VALUE).values()) {
+                        accumulate(scores, postings, segment);
+                        if (++expanded == MAX_PREFIX_TERMS) {
+                            break;
+                        }
+                    }
+                } else {
+                    Postings postings = segment.postingsByTerm.get(queryTerm.term());
+                    if (postings != null) {
+                        accumulate(scores, postings, segment);
+                    }
+                }
+            }
+            return topK(scores, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void accumulate(LongDoubleMap scores, Postings postings, Segment segment) {
+        double idf = Math.log(1 + (double) segment.documentCount / postings.size);
+        boolean hasDeleted = segment.deleted.size > 0;
+        for (int i = 0; i < postings.size; i++) {
+            long todoId = postings.todoIds[i];
+            if (hasDeleted && segment.deleted.contains(todoId)) {
+                continue;
+            }
+            scores.add(todoId, (1 + Math.log(postings.frequencies[i])) * idf);
+        }
+    }
+
+    // 크기가 limit 인 최소 힙으로 상위 limit 개만 남긴다.
+    private List<Long> topK(LongDoubleMap scores, int limit) {
+        PriorityQueue<ScoredTodo> heap = new PriorityQueue<>(limit + 1, (a, b) -> Double.compare(a.score(), b.score()));
+        for (int slot = 0; slot < scores.keys.length; slot++) {
+            long todoId = scores.keys[slot];
+            if (todoId == LongDoubleMap.EMPTY) {
+                continue;
+            }
+            double score = scores.values[slot];
+            if (heap.size() < limit) {
+                heap.add(new ScoredTodo(todoId, score));
+            } else if (score > heap.peek().score()) {
+                heap.poll();
+                heap.add(new ScoredTodo(todoId, score));
+            }
+        }
+
+        Long[] ranked = new Long[heap.size()];
+        for (int i = ranked.length - 1; i >= 0; i--) {
+            ranked[i] = heap.poll().todoId();
+        }
+        return Arrays.asList(ranked);
+    }
+
+    private double read(ToDoubleFunction<Segment> reader) {
+        lock.readLock().lock();
+        try {
+            return reader.applyAsDouble(segment);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static List<QueryTerm> parseQuery(String query) {
+        List<QueryTerm> queryTerms = new ArrayList<>();
+        if (query == null) {
+            return queryTerms;
+        }
+        for (String word : query.trim().split("\\s+")) {
+            boolean prefix = word.endsWith("*");
+            List<String> terms = tokenize(prefix ? word.substring(0, word.length() - 1) : word);
+            for (int i = 0; i < terms.size(); i++) {
+                queryTerms.add(new QueryTerm(terms.get(i), prefix && i == terms.size() - 1));
+            }
+        }
+        return queryTerms;
+    }
+
+    // 글자/숫자가 아닌 문자를 기준으로 나누고 소문자로 바꾼다. (한글은 형태소 분석 없이 어절 단위, 조사는 접두어 검색으로 보완)
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        StringBuilder token = new StringBuilder();
+        for (int i = 0; i < text.length(); ) {
+            int codePoint = text.codePointAt(i);
+            i += Character.charCount(codePoint);
+            if (Character.isLetterOrDigit(codePoint)) {
+                token.appendCodePoint(Character.toLowerCase(codePoint));
+            } else {
+                flush(token, tokens);
+            }
+        }
+        flush(token, tokens);
+        return tokens;
+    }
+
+    private static void flush(StringBuilder token, List<String> tokens) {
+        if (token.length() > 0 && token.length() <= MAX_TERM_LENGTH) {
+            tokens.add(token.toString());
+        }
+        token.setLength(0);
+    }
+
+    private record QueryTerm(String term, boolean prefix) {
+    }
+
+    private record ScoredTodo(long todoId, double score) {
+    }
+
+    // 색인 한 벌 (재생성 시 새로 만들어서 통째로 교체)
+    private static class Segment {
+
+        private final TreeMap<String, Postings> postingsByTerm = new TreeMap<>();
+        private final LongDoubleMap documents = new LongDoubleMap(); // 색인된 일정 id 집합 (중복 색인 방지)
+        private final LongDoubleMap deleted = new LongDoubleMap(); // 삭제 표시된 일정 id 집합
+        private int documentCount;
+        private long postingCount;
+
+        // max-postings 를 넘는다면 색인하지 않고 false 반환
+        boolean add(TodoSearchDocument document, long maxPostings) {
+            if (documents.contains(document.id())) {
+                return true;
+            }
+
+            Map<String, int[]> frequencies = new HashMap<>();
+            for (String term : tokenize(document.title())) {
+                frequencies.computeIfAbsent(term, key -> new int[1])[0] += TITLE_WEIGHT;
+            }
+            for (String term : tokenize(document.contents())) {
+                frequencies.computeIfAbsent(term, key -> new int[1])[0]++;
+            }
+            if (postingCount + frequencies.size() > maxPostings) {
+                return false;
+            }
+
+            for (Map.Entry<String, int[]> entry : frequencies.entrySet()) {
+                postingsByTerm.computeIfAbsent(entry.getKey(), key -> new Postings())
+                        .add(document.id(), entry.getValue()[0]);
+            }
+            documents.add(document.id(), 1);
+            documentCount++;
+            postingCount += frequencies.size();
+            return true;
+        }
+
+        void remove(long todoId) {
+            if (documents.contains(todoId) && !deleted.contains(todoId)) {
+                deleted.add(todoId, 1);
+                documentCount--;
+            }
+        }
+
+        void trimToSize() {
+            postingsByTerm.values().forEach(Postings::trimToSize);
+        }
+    }
+
+    // 색인어 하나의 posting 목록 (boxing 없이 기본형 배열로 보관)
+    private static class Postings {
+
+        private long[] todoIds = new long[4];
+        private int[] frequencies = new int[4];
+        private int size;
+
+        void add(long todoId, int frequency) {
+            if (size == todoIds.length) {
+                int capacity = size + (size >> 1);
+                todoIds = Arrays.copyOf(todoIds, capacity);
+                frequencies = Arrays.copyOf(frequencies, capacity);
+            }
+            todoIds[size] = todoId;
+            frequencies[size] = frequency;
+            size++;
+        }
+
+        void trimToSize() {
+            todoIds = Arrays.copyOf(todoIds, size);
+            frequencies = Arrays.copyOf(frequencies, size);
+        }
+    }
+
+    // long -> double 오픈 어드레싱 해시 맵 (검색 점수 누적, 일정 id 집합), id 0 은 빈 칸으로 사용
+    private static class LongDoubleMap {
+
+        private static final long EMPTY = 0L;
+
+        private long[] keys = new long[16];
+        private double[] values = new double[16];
+        private int size;
+
+        void add(long key, double delta) {
+            if ((size + 1) * 4 > keys.length * 3) {
+                resize();
+            }
+            int slot = slot(key, keys);
+            if (keys[slot] == EMPTY) {
+                keys[slot] = key;
+                size++;
+            }
+            values[slot] += delta;
+        }
+
+        boolean contains(long key) {
+            return keys[slot(key, keys)] == key;
+        }
+
+        private static int slot(long key, long[] keys) {
+            int mask = keys.length - 1;
+            int slot = Long.hashCode(key * 0x9E3779B97F4A7C15L) & mask;
+            while (keys[slot] != EMPTY && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private void resize() {
+            long[] oldKeys = keys;
+            double[] oldValues = values;
+            keys = new long[oldKeys.length * 2];
+            values = new double[oldKeys.length * 2];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY) {
+                    int slot = slot(oldKeys[i], keys);
+                    keys[slot] = oldKeys[i];
+                    values[slot] = oldValues[i];
+                }
+            }
+        }
+    }
+}
@@ -2,36 +2,70 @@ package org.example.expert.domain.todo.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.util.ETags;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.request.TodoBatchSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoCursor;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoViewResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.TodoCountMode;
+import org.example.expert.domain.todo.event.TodoChangedEvent;
+import org.example.expert.domain.todo.event.TodoDeletedEvent;
+import org.example.expert.domain.todo.event.TodoSavedEvent;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.repository.TodoVersion;
+import org.example.expert.domain.todo.repository.TodoViewRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TodoService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_SIZE = 100;
+
     private final TodoRepository todoRepository;
+    private final CommentRepository commentRepository;
+    private final ManagerRepository managerRepository;
     private final WeatherClient weatherClient;
+    private final TodoCountCache todoCountCache;
+    private final TodoSearchIndex todoSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TodoOwnershipGuard todoOwnershipGuard;
+    private final TodoViewRepository todoViewRepository;
+
+    // true 라면 날씨 없이(PENDING) 먼저 저장하고 TodoWeatherEnrichmentWorker가 나중에 채운다.
+    @Value("${todo.weather.async-enabled:false}")
+    private boolean asyncWeatherEnabled;
 
     // 일정 생성 -> 등록과 동시에 일정 관리자로 자동 등록
     @Transactional
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
         User user = User.fromAuthUser(authUser);
-        String weather = weatherClient.getTodayWeather();
+        String weather = asyncWeatherEnabled ? null : weatherClient.getTodayWeather();
         Todo newTodo = new Todo(
                 todoSaveRequest.getTitle(),
                 todoSaveRequest.getContents(),
@@ -39,6 +73,7 @@ public class TodoService {
                 user
         );
         Todo savedTodo = todoRepository.save(newTodo);
+        eventPublisher.publishEvent(new TodoSavedEvent(savedTodo.getId(), savedTodo.getTitle(), savedTodo.getContents()));
 
         return new TodoSaveResponse(
                 savedTodo.getId(),
@@ -49,21 +84,111 @@ public class TodoService {
         );
     }
 
-    // 일정 조회
-    public Page<TodoResponse> getTodos(int page, int size, String weather, LocalDateTime startAt, LocalDateTime endAt) {
+    /**
+     * 일정 일괄 생성
+     * 일정과 자동 등록되는 담당자(Manager)를 saveAll 로 한 번에 영속화하고,
+     * 커밋 시점에 hibernate.jdbc.batch_size 단위의 배치 INSERT로 전송한다.
+     */
+    @Transactional
+    public List<TodoSaveResponse> saveTodos(AuthUser authUser, TodoBatchSaveRequest todoBatchSaveRequest) {
+        User user = User.fromAuthUser(authUser);
+        String weather = asyncWeatherEnabled ? null : weatherClient.getTodayWeather(); // 날씨는 한 번만 조회
+
+        List<Todo> newTodos = todoBatchSaveRequest.getTodos().stream()
+                .map(request -> new Todo(request.getTitle(), request.getContents(), weather, user))
+                .toList();
+        List<Todo> savedTodos = todoRepository.saveAll(newTodos);
+        savedTodos.forEach(todo -> eventPublisher.publishEvent(new TodoSavedEvent(todo.getId(), todo.getTitle(), todo.getContents())));
+
+        UserResponse userResponse = new UserResponse(user.getId(), user.getEmail());
+        return savedTodos.stream()
+                .map(todo -> new TodoSaveResponse(
+                        todo.getId(),
+                        todo.getTitle(),
+                        todo.getContents(),
+                        weather,
+                        userResponse
+                ))
+                .toList();
+    }
+
+    /**
+     * 일정 조회
+     * -> EXACT : 매번 COUNT 실행 (Page)
+     * -> APPROX : 조건별로 캐시된 COUNT 사용 (Page, totalElements는 최대 갱신 주기만큼 늦을 수 있다.)
+     * -> NONE : COUNT 없이 hasNext만 반환 (Slice)
+     */
+    public Slice<TodoResponse> getTodos(int page, int size, String weather, LocalDateTime startAt, LocalDateTime endAt, TodoCountMode countMode) {
         Pageable pageable = PageRequest.of(page - 1, size);
 
-        Page<Todo> todos = todoRepository.findTodos(weather, startAt, endAt, pageable);
+        return switch (countMode) {
+            case EXACT -> todoRepository.findTodos(weather, startAt, endAt, pageable);
+            case APPROX -> todoRepository.findTodos(weather, startAt, endAt, pageable,
+                    () -> todoCountCache.get(weather, startAt, endAt));
+            case NONE -> todoRepository.findTodoSlice(weather, startAt, endAt, pageable);
+        };
+    }
 
-        return todos.map(todo -> new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        ));
+    // 일정 조회 (커서 기반) -> 페이지 깊이와 상관없이 일정한 비용으로 조회
+    public TodoCursorResponse getTodosByCursor(String cursor, int size, String weather, LocalDateTime startAt, LocalDateTime endAt) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new InvalidRequestException("size는 1 이상 " + MAX_CURSOR_PAGE_SIZE + " 이하만 가능합니다.");
+        }
+
+        // 다음 페이지 존재 여부를 COUNT 없이 판단하기 위해 size + 1 개를 조회한다.
+        List<TodoResponse> todos = todoRepository.findTodosByCursor(weather, startAt, endAt, TodoCursor.decode(cursor), size + 1);
+
+        boolean hasNext = todos.size() > size;
+        List<TodoResponse> contents = hasNext ? todos.subList(0, size) : todos;
+
+        String next = null;
+        if (hasNext) {
+            TodoResponse last = contents.get(contents.size() - 1);
+            next = new TodoCursor(last.getModifiedAt(), last.getId()).encode();
+        }
+        return new TodoCursorResponse(contents, next);
+    }
+
+    /**
+     * 일정 목록 조회 (읽기 모델)
+     * todo_view 한 테이블만 읽어서 작성자 닉네임, 댓글/담당자 수까지 JOIN 없이 반환한다.
+     * 원본 변경 후 최대 todo.view.refresh-delay 만큼 늦게 반영된다.
+     */
+    public Slice<TodoViewResponse> getTodoViews(int page, int size, String weather, LocalDateTime startAt, LocalDateTime endAt) {
+        return todoViewRepository.findTodoViews(weather, startAt, endAt, PageRequest.of(page - 1, size));
+    }
+
+    /**
+     * 일정 검색 (제목, 내용)
+     * 메모리 역색인(TodoSearchIndex)에서 점수 순으로 id를 찾은 뒤, 해당 일정만 IN 조건으로 한 번에 조회한다.
+     * 색인에는 남아 있지만 삭제된 일정은 조회되지 않으므로 결과에서 제외된다.
+     */
+    public List<TodoResponse> searchTodos(String query, int size) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidRequestException("검색어를 입력해주세요.");
+        }
+        if (size < 1 || size > MAX_SEARCH_SIZE) {
+            throw new InvalidRequestException("size는 1 이상 " + MAX_SEARCH_SIZE + " 이하만 가능합니다.");
+        }
+
+        List<Long> rankedIds = todoSearchIndex.search(query, size);
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, TodoResponse> todosById = todoRepository.findTodosByIds(rankedIds).stream()
+                .collect(Collectors.toMap(TodoResponse::getId, Function.identity()));
+        return rankedIds.stream()
+                .map(todosById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    // 일정 단건 조회의 ETag (수정 시간, 댓글/담당자 수 컬럼만 조회)
+    public String getTodoETag(long todoId) {
+        TodoVersion version = todoRepository.findVersionById(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+        return ETags.of(todoId, version.modifiedAt(), version.commentCount(), version.managerCount());
     }
 
     public TodoResponse getTodo(long todoId) {
@@ -79,7 +204,25 @@ public class TodoService {
                 todo.getWeather(),
                 new UserResponse(user.getId(), user.getEmail()),
                 todo.getCreatedAt(),
-                todo.getModifiedAt()
+                todo.getModifiedAt(),
+                todo.getCommentCount(),
+                todo.getManagerCount()
         );
     }
+
+    /**
+     * 일정 삭제 -> 일정을 만든 유저만 삭제 가능
+     * cascade(REMOVE)는 댓글을 모두 영속성 컨텍스트에 로딩한 뒤 한 건씩 DELETE 하기 때문에,
+     * 댓글 -> 담당자 -> 일정 순서로(외래 키 순서) 벌크 DELETE 세 번으로 삭제한다.
+     */
+    @Transactional
+    public void deleteTodo(AuthUser authUser, long todoId) {
+        todoOwnershipGuard.requireOwner(todoId, authUser.getId(), "일정을 만든 유저만 삭제할 수 있습니다.");
+
+        commentRepository.deleteAllByTodoIdInBulk(todoId);
+        managerRepository.deleteAllByTodoIdInBulk(todoId);
+        todoRepository.deleteByIdInBulk(todoId);
+        eventPublisher.publishEvent(new TodoChangedEvent(todoId)); // 읽기 모델에서도 삭제
+        eventPublisher.publishEvent(new TodoDeletedEvent(todoId)); // 검색 색인에서 제거
+    }
 }
@@ -0,0 +1,192 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.entity.TodoView;
+import org.example.expert.domain.todo.event.TodoChangedEvent;
+import org.example.expert.domain.todo.event.TodoSavedEvent;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.repository.TodoViewRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 일정 읽기 모델(todo_view) 갱신
+ * <p>
+ * 일정/댓글/담당자 변경이 커밋되면 일정 id만 dirty 집합에 기록하고, refresh-delay 주기로 모아서
+ * batch-size 개씩 원본(todos JOIN users)을 IN 조회해 todo_view 에 반영한다. (쓰기 요청은 읽기 모델 갱신을 기다리지 않는다.)
+ * 같은 일정이 여러 번 변경되어도 한 번만 갱신하며, 지연은 최대 refresh-delay + 한 주기 처리 시간이다.
+ * <p>
+ * dirty 집합은 메모리에만 있으므로 애플리케이션 시작 시(rebuild-on-startup) 또는 관리자 요청으로 전체를 다시 만든다.
+ * 전체 재생성은 전용 스레드에서 한 번에 하나만 실행하고, 잠금은 batch-size 단위로만 잡기 때문에 그동안에도 dirty 갱신이 배치 사이에 끼어들어 계속 반영된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodoViewProjector {
+
+    private final TodoRepository todoRepository;
+    private final TodoViewRepository todoViewRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Set<Long> dirtyTodoIds = ConcurrentHashMap.newKeySet();
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("todo-view-rebuild-"));
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    @Value("${todo.view.batch-size:500}")
+    private int batchSize;
+
+    @Value("${todo.view.rebuild-on-startup:true}")
+    private boolean rebuildOnStartup;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTodoSaved(TodoSavedEvent event) {
+        dirtyTodoIds.add(event.todoId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTodoChanged(TodoChangedEvent event) {
+        dirtyTodoIds.add(event.todoId());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (rebuildOnStartup) {
+            startRebuild();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    @Scheduled(fixedDelayString = "${todo.view.refresh-delay:1000}")
+    public synchronized void refreshDirty() {
+        List<Long> batch = new ArrayList<>(batchSize);
+        Iterator<Long> iterator = dirtyTodoIds.iterator();
+        while (iterator.hasNext()) {
+            batch.add(iterator.next());
+            iterator.remove(); // 갱신 중에 다시 변경되면 다시 추가되어 다음 주기에 반영된다.
+            if (batch.size() == batchSize) {
+                refreshOrRetry(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            refreshOrRetry(batch);
+        }
+    }
+
+    // 전체 재생성을 백그라운드에서 시작한다. 이미 진행 중이라면 false
+    public boolean startRebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            rebuildExecutor.execute(() -> {
+                try {
+                    rebuild();
+                } catch (RuntimeException e) {
+                    log.warn("일정 읽기 모델 재생성 실패", e);
+                } finally {
+                    rebuilding.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            rebuilding.set(false); // 종료 중이라 작업을 넣지 못한 경우
+            throw e;
+        }
+        return true;
+    }
+
+    public boolean isRebuilding() {
+        return rebuilding.get();
+    }
+
+    /**
+     * 전체 재생성: 일정 id 순서로 batch-size 개씩 갱신한 뒤, 원본이 없는 행을 삭제한다.
+     * 읽기 모델을 비우지 않고 덮어쓰기 때문에 재생성 중에도 목록 조회는 계속 동작한다.
+     * id 조회는 잠금 없이 하고, 갱신만 refreshDirty 와 같은 잠금 안에서 배치 단위로 실행한다. (같은 일정을 동시에 INSERT 하지 않도록)
+     */
+    private void rebuild() {
+        long refreshed = 0;
+        long lastId = 0L;
+        List<Long> todoIds;
+        do {
+            todoIds = todoRepository.findIdsAfter(lastId, PageRequest.of(0, batchSize));
+            if (!todoIds.isEmpty()) {
+                refreshLocked(todoIds);
+                lastId = todoIds.get(todoIds.size() - 1);
+                refreshed += todoIds.size();
+            }
+        } while (todoIds.size() == batchSize);
+
+        Integer removed;
+        synchronized (this) {
+            removed = transactionTemplate.execute(status -> todoViewRepository.deleteOrphans());
+        }
+        log.info("일정 읽기 모델 재생성 완료: refreshed={}, removed={}", refreshed, removed);
+    }
+
+    private synchronized void refreshLocked(List<Long> todoIds) {
+        transactionTemplate.executeWithoutResult(status -> refresh(todoIds));
+    }
+
+    private void refreshOrRetry(List<Long> todoIds) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> refresh(todoIds));
+        } catch (RuntimeException e) {
+            dirtyTodoIds.addAll(todoIds); // 다음 주기에 다시 시도
+            log.warn("일정 읽기 모델 갱신 실패, 다음 주기에 재시도합니다. size={}", todoIds.size(), e);
+        }
+    }
+
+    // 원본 IN 조회 1번 + 읽기 모델 IN 조회 1번 -> 변경 감지 UPDATE / 배치 INSERT / 원본이 삭제된 행 DELETE
+    private void refresh(Collection<Long> todoIds) {
+        Map<Long, TodoView> sources = todoRepository.findTodoViewSources(todoIds).stream()
+                .collect(Collectors.toMap(TodoView::getTodoId, Function.identity()));
+        Map<Long, TodoView> views = todoViewRepository.findAllById(todoIds).stream()
+                .collect(Collectors.toMap(TodoView::getTodoId, Function.identity()));
+
+        List<TodoView> created = new ArrayList<>();
+        for (TodoView source : sources.values()) {
+            TodoView view = views.get(source.getTodoId());
+            if (view != null) {
+                view.refresh(source);
+            } else {
+                created.add(source);
+            }
+        }
+        todoViewRepository.saveAll(created);
+
+        List<Long> removed = views.keySet().stream()
+                .filter(todoId -> !sources.containsKey(todoId))
+                .toList();
+        if (!removed.isEmpty()) {
+            todoViewRepository.deleteAllByIdInBatch(removed);
+        }
+    }
+}
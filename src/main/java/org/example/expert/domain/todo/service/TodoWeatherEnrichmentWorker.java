@@ -0,0 +1,111 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.exception.WeatherNotFoundException;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.WeatherStatus;
+import org.example.expert.domain.todo.event.TodoChangedEvent;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 날씨 보강 작업 큐 처리기
+ * todos.weather_status = PENDING 인 행이 곧 작업 큐이기 때문에 서버가 재시작 되어도 작업이 유실되지 않는다.
+ * 외부 날씨 API 호출이 일정 생성 요청의 트랜잭션(커넥션 점유 구간) 밖에서 일어나도록 백그라운드에서 배치 단위로 처리한다.
+ * <p>
+ * 날씨 조회도 행을 잠그는 트랜잭션을 열기 전에 끝낸다.
+ * 조회에 실패하면 이번 주기를 중단해서 일정이 PENDING 으로 남고, 해당 날짜가 데이터에 없을 때(WeatherNotFoundException)만 UNAVAILABLE 로 변경한다.
+ * 처리한 일정은 TodoChangedEvent 를 발행해서 커밋 후 읽기 모델(todo_view)의 날씨도 갱신되게 한다.
+ * <p>
+ * todo.weather.async-enabled=true 일 때만 등록된다. (false 라면 저장 시점에 날씨를 채우므로 PENDING 일정이 생기지 않아 주기적으로 조회할 필요가 없다.)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "todo.weather.async-enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class TodoWeatherEnrichmentWorker {
+
+    private final TodoRepository todoRepository;
+    private final WeatherClient weatherClient;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${todo.weather.enrichment-batch-size:100}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${todo.weather.enrichment-delay:5000}")
+    public void drain() {
+        try {
+            Integer processed;
+            do {
+                Map<LocalDate, Optional<String>> weatherByDate = fetchPendingWeather();
+                if (weatherByDate.isEmpty()) {
+                    return;
+                }
+                processed = transactionTemplate.execute(status -> drainBatch(weatherByDate));
+            } while (processed != null && processed == batchSize);
+        } catch (RuntimeException e) {
+            // 처리하지 못한 일정은 PENDING 으로 남아 있으므로 다음 주기에 다시 시도한다.
+            log.warn("날씨 보강 작업 실패, 다음 주기에 재시도합니다.", e);
+        }
+    }
+
+    // 대기 중인 일정의 날짜별 날씨 (데이터에 없는 날짜라면 Optional.empty())
+    private Map<LocalDate, Optional<String>> fetchPendingWeather() {
+        List<LocalDateTime> createdAts = todoRepository.findCreatedAtByWeatherStatus(WeatherStatus.PENDING, PageRequest.of(0, batchSize));
+
+        Map<LocalDate, Optional<String>> weatherByDate = new HashMap<>();
+        for (LocalDateTime createdAt : createdAts) {
+            LocalDate date = createdAt.toLocalDate();
+            if (!weatherByDate.containsKey(date)) {
+                weatherByDate.put(date, findWeather(date));
+            }
+        }
+        return weatherByDate;
+    }
+
+    // 날씨 데이터를 받아오지 못한 경우(ServerException)는 그대로 던져서 이번 주기를 중단한다.
+    private Optional<String> findWeather(LocalDate date) {
+        try {
+            return Optional.of(weatherClient.getWeather(date));
+        } catch (WeatherNotFoundException e) {
+            return Optional.empty();
+        }
+    }
+
+    private int drainBatch(Map<LocalDate, Optional<String>> weatherByDate) {
+        List<Todo> pendingTodos = todoRepository.findByWeatherStatusForUpdate(WeatherStatus.PENDING, PageRequest.of(0, batchSize));
+
+        int processed = 0;
+        for (Todo todo : pendingTodos) {
+            Optional<String> weather = weatherByDate.get(todo.getCreatedAt().toLocalDate());
+            if (weather == null) {
+                continue; // 날씨를 미리 받아 두지 않은 날짜(그 사이 추가된 일정)는 다음 주기에 처리
+            }
+            if (weather.isPresent()) {
+                todo.resolveWeather(weather.get());
+            } else {
+                log.warn("날씨 데이터 없음: todoId={}, createdAt={}", todo.getId(), todo.getCreatedAt());
+                todo.markWeatherUnavailable();
+            }
+            eventPublisher.publishEvent(new TodoChangedEvent(todo.getId()));
+            processed++;
+        }
+        return processed;
+    }
+}
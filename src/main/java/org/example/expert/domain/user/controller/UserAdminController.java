@@ -1,13 +1,19 @@
 package org.example.expert.domain.user.controller;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.user.dto.request.UserRoleBatchChangeRequest;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.dto.response.UserRoleChangeResponse;
 import org.example.expert.domain.user.service.UserAdminService;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 public class UserAdminController {
@@ -18,4 +24,10 @@ public class UserAdminController {
     public void changeUserRole(@PathVariable long userId, @RequestBody UserRoleChangeRequest userRoleChangeRequest) {
         userAdminService.changeUserRole(userId, userRoleChangeRequest);
     }
+
+    // 여러 유저의 권한을 한 번에 변경 (id마다 결과 반환)
+    @PatchMapping("/admin/users/roles")
+    public ResponseEntity<List<UserRoleChangeResponse>> changeUserRoles(@Valid @RequestBody UserRoleBatchChangeRequest userRoleBatchChangeRequest) {
+        return ResponseEntity.ok(userAdminService.changeUserRoles(userRoleBatchChangeRequest));
+    }
 }
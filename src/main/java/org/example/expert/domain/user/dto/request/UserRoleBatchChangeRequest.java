@@ -0,0 +1,34 @@
+package org.example.expert.domain.user.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserRoleBatchChangeRequest {
+
+    @Valid
+    @NotEmpty
+    @Size(max = 5000)
+    private List<Item> users;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+
+        @NotNull
+        private Long userId;
+        @NotBlank
+        private String role;
+    }
+}
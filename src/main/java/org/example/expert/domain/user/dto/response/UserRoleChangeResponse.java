@@ -0,0 +1,23 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class UserRoleChangeResponse {
+
+    private final Long userId;
+    private final String role;
+    private final Result result;
+
+    public UserRoleChangeResponse(Long userId, String role, Result result) {
+        this.userId = userId;
+        this.role = role;
+        this.result = result;
+    }
+
+    public enum Result {
+        UPDATED,
+        NOT_FOUND,
+        INVALID_ROLE
+    }
+}
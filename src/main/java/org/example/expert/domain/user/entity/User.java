@@ -7,15 +7,25 @@ import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.enums.UserRole;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.security.core.GrantedAuthority;
 
 @Getter
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user") // 자주 조회되지만 거의 변경되지 않으므로 2차 캐시에 보관 (updateRole, changePassword 시 커밋과 함께 캐시도 갱신)
 @NoArgsConstructor
-@Table(name = "users")
+@Table(
+        name = "users",
+        // 토큰 epoch 테이블 갱신(UserEpochTable.refresh)이 수정 시간 이후 변경된 유저만 (modifiedAt, id) 순서로 조회
+        indexes = @Index(name = "idx_users_modified_at_id", columnList = "modified_at, id")
+)
 public class User extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq_generator")
+    @SequenceGenerator(name = "user_seq_generator", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
     @Column(unique = true)
     private String email;
@@ -23,6 +33,8 @@ public class User extends Timestamped {
     @Enumerated(EnumType.STRING)
     private UserRole userRole;
     private String nickname; // 컬럼 설정
+    @Column(nullable = false)
+    private int tokenEpoch; // 권한/비밀번호 변경 시 증가, 이전 epoch 로 발급된 토큰은 폐기 (UserEpochTable)
 
     public User(String email, String password, UserRole userRole, String nickname) {
         this.email = email;
@@ -50,9 +62,11 @@ public class User extends Timestamped {
 
     public void changePassword(String password) {
         this.password = password;
+        this.tokenEpoch++;
     }
 
     public void updateRole(UserRole userRole) {
         this.userRole = userRole;
+        this.tokenEpoch++;
     }
 }
@@ -0,0 +1,7 @@
+package org.example.expert.domain.user.event;
+
+import java.util.Collection;
+
+// 권한/비밀번호 변경으로 토큰 epoch 가 증가한 유저 (커밋 이후 UserEpochTable 즉시 갱신에 사용)
+public record UserTokenRevokedEvent(Collection<Long> userIds) {
+}
@@ -0,0 +1,7 @@
+package org.example.expert.domain.user.repository;
+
+import java.time.LocalDateTime;
+
+// 토큰 epoch 테이블 갱신용 컬럼
+public record UserEpoch(Long id, int tokenEpoch, LocalDateTime modifiedAt) {
+}
@@ -1,11 +1,43 @@
 package org.example.expert.domain.user.repository;
 
 import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    // ETag 계산용: 유저 전체가 아닌 수정 시간 컬럼만 조회
+    @Query("SELECT u.modifiedAt FROM User u WHERE u.id = :userId")
+    Optional<LocalDateTime> findModifiedAtById(@Param("userId") Long userId);
+
+    @Query("SELECT u.id FROM User u WHERE u.id IN :userIds")
+    List<Long> findExistingIds(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 권한 일괄 변경 (UPDATE 한 번)
+     * 벌크 연산은 Auditing(@LastModifiedDate)을 거치지 않기 때문에 ETag가 바뀌도록 수정 시간을 직접 변경한다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.userRole = :userRole, u.tokenEpoch = u.tokenEpoch + 1, u.modifiedAt = :modifiedAt WHERE u.id IN :userIds")
+    int updateRoles(@Param("userIds") Collection<Long> userIds, @Param("userRole") UserRole userRole, @Param("modifiedAt") LocalDateTime modifiedAt);
+
+    // 토큰 epoch 테이블 갱신용: (modifiedAt, id) 이후에 수정된 유저를 순서대로 조회
+    @Query("""
+            SELECT new org.example.expert.domain.user.repository.UserEpoch(u.id, u.tokenEpoch, u.modifiedAt)
+            FROM User u
+            WHERE u.modifiedAt > :modifiedAt OR (u.modifiedAt = :modifiedAt AND u.id > :id)
+            ORDER BY u.modifiedAt, u.id
+            """)
+    List<UserEpoch> findEpochsModifiedAfter(@Param("modifiedAt") LocalDateTime modifiedAt, @Param("id") Long id, Pageable pageable);
 }
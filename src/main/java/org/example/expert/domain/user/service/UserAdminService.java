@@ -2,22 +2,100 @@ package org.example.expert.domain.user.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.dto.request.UserRoleBatchChangeRequest;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.dto.response.UserRoleChangeResponse;
+import org.example.expert.domain.user.dto.response.UserRoleChangeResponse.Result;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.event.UserTokenRevokedEvent;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 @Service
 @RequiredArgsConstructor
 public class UserAdminService {
 
+    private static final int ROLE_UPDATE_CHUNK_SIZE = 500; // IN 절 하나에 담는 최대 id 수
+
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void changeUserRole(long userId, UserRoleChangeRequest userRoleChangeRequest) {
         User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
         user.updateRole(UserRole.of(userRoleChangeRequest.getRole()));
+        eventPublisher.publishEvent(new UserTokenRevokedEvent(List.of(userId))); // 이전 권한으로 발급된 토큰 폐기
+    }
+
+    /**
+     * 권한 일괄 변경
+     * 유저마다 SELECT + 변경 감지 UPDATE 를 하지 않고, 변경할 권한별로 id를 모아서
+     * ROLE_UPDATE_CHUNK_SIZE 개씩 (존재하는 id 조회 + 벌크 UPDATE) 두 번의 쿼리로 처리한다.
+     * 결과는 요청 순서대로 id마다 UPDATED / NOT_FOUND / INVALID_ROLE 로 반환한다.
+     */
+    @Transactional
+    public List<UserRoleChangeResponse> changeUserRoles(UserRoleBatchChangeRequest userRoleBatchChangeRequest) {
+        List<UserRoleBatchChangeRequest.Item> items = userRoleBatchChangeRequest.getUsers();
+
+        Set<Long> requestedIds = new HashSet<>();
+        Map<UserRole, List<Long>> idsByRole = new EnumMap<>(UserRole.class);
+        for (UserRoleBatchChangeRequest.Item item : items) {
+            if (!requestedIds.add(item.getUserId())) {
+                throw new InvalidRequestException("중복된 userId가 있습니다: " + item.getUserId());
+            }
+            UserRole userRole = toUserRole(item.getRole());
+            if (userRole != null) {
+                idsByRole.computeIfAbsent(userRole, role -> new ArrayList<>()).add(item.getUserId());
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Set<Long> updatedIds = new HashSet<>();
+        for (Map.Entry<UserRole, List<Long>> entry : idsByRole.entrySet()) {
+            List<Long> ids = entry.getValue();
+            for (int from = 0; from < ids.size(); from += ROLE_UPDATE_CHUNK_SIZE) {
+                List<Long> chunk = ids.subList(from, Math.min(from + ROLE_UPDATE_CHUNK_SIZE, ids.size()));
+                List<Long> existingIds = userRepository.findExistingIds(chunk);
+                if (!existingIds.isEmpty()) {
+                    userRepository.updateRoles(existingIds, entry.getKey(), now);
+                    updatedIds.addAll(existingIds);
+                }
+            }
+        }
+
+        if (!updatedIds.isEmpty()) {
+            eventPublisher.publishEvent(new UserTokenRevokedEvent(updatedIds));
+        }
+
+        return items.stream()
+                .map(item -> new UserRoleChangeResponse(item.getUserId(), item.getRole(), toResult(item, updatedIds)))
+                .toList();
+    }
+
+    private Result toResult(UserRoleBatchChangeRequest.Item item, Set<Long> updatedIds) {
+        if (toUserRole(item.getRole()) == null) {
+            return Result.INVALID_ROLE;
+        }
+        return updatedIds.contains(item.getUserId()) ? Result.UPDATED : Result.NOT_FOUND;
+    }
+
+    // 유효하지 않은 권한이라면 요청 전체를 실패시키지 않고 해당 id만 INVALID_ROLE 처리
+    private UserRole toUserRole(String role) {
+        try {
+            return UserRole.of(role);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
     }
 }
@@ -1,14 +1,22 @@
 package org.example.expert.domain.user.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.config.PasswordHashExecutor;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.util.ETags;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.event.UserTokenRevokedEvent;
 import org.example.expert.domain.user.repository.UserRepository;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -16,29 +24,50 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashExecutor passwordHashExecutor; // BCrypt 연산은 전용 스레드 풀에서 실행
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     public UserResponse getUser(long userId) {
         User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
         return new UserResponse(user.getId(), user.getEmail());
     }
 
-    @Transactional
+    // 유저 조회의 ETag (수정 시간 컬럼만 조회)
+    public String getUserETag(long userId) {
+        LocalDateTime modifiedAt = userRepository.findModifiedAtById(userId)
+                .orElseThrow(() -> new InvalidRequestException("User not found"));
+        return ETags.of(userId, modifiedAt);
+    }
+
+    /**
+     * BCrypt 비교/해시는 대기열에서 기다리는 동안 커넥션을 점유하지 않도록 트랜잭션 밖에서 실행하고,
+     * 변경된 비밀번호만 짧은 트랜잭션에서 저장한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void changePassword(long userId, UserChangePasswordRequest userChangePasswordRequest) {
         validateNewPassword(userChangePasswordRequest);
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new InvalidRequestException("User not found"));
+        String currentPassword = userRepository.findById(userId)
+                .orElseThrow(() -> new InvalidRequestException("User not found"))
+                .getPassword();
 
-        if (!passwordEncoder.matches(userChangePasswordRequest.getOldPassword(), user.getPassword())) {
+        if (!passwordHashExecutor.matches(userChangePasswordRequest.getOldPassword(), currentPassword)) {
             throw new InvalidRequestException("잘못된 비밀번호입니다.");
         }
 
-        if (passwordEncoder.matches(userChangePasswordRequest.getNewPassword(), user.getPassword())) {
+        if (passwordHashExecutor.matches(userChangePasswordRequest.getNewPassword(), currentPassword)) {
             throw new InvalidRequestException("새 비밀번호는 기존 비밀번호와 같을 수 없습니다.");
         }
 
-        user.changePassword(passwordEncoder.encode(userChangePasswordRequest.getNewPassword()));
+        String encodedPassword = passwordHashExecutor.encode(userChangePasswordRequest.getNewPassword());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new InvalidRequestException("User not found"));
+            user.changePassword(encodedPassword);
+            eventPublisher.publishEvent(new UserTokenRevokedEvent(List.of(userId))); // 기존 토큰 폐기 (커밋 후 반영)
+        });
     }
 
     private static void validateNewPassword(UserChangePasswordRequest userChangePasswordRequest) {
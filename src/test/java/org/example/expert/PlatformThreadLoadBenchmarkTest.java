@@ -0,0 +1,12 @@
+package org.example.expert;
+
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+class PlatformThreadLoadBenchmarkTest extends ThreadingLoadBenchmarkTest {
+
+    @Override
+    protected String mode() {
+        return "platform";
+    }
+}
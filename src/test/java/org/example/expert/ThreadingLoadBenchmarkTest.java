@@ -0,0 +1,100 @@
+package org.example.expert;
+
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+/**
+ * 플랫폼 스레드 모드와 가상 스레드 모드의 부하 비교
+ * 동시 클라이언트(benchmark.clients)가 GET /todos/cursor 를 반복 호출했을 때의 처리량과 p99 지연 시간을 출력한다.
+ * ./gradlew benchmark -PjavaVersion=21 -Pbenchmark.clients=500
+ * 내장 H2는 I/O 대기가 거의 없으므로, 실제 차이는 MySQL(spring.datasource.*)을 지정해서 측정한다.
+ */
+@Tag("benchmark")
+@AutoConfigureTestDatabase
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+abstract class ThreadingLoadBenchmarkTest {
+
+    private static final int REQUESTS_PER_CLIENT = 50;
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private final int clients = Integer.getInteger("benchmark.clients", 200);
+
+    protected abstract String mode();
+
+    @Test
+    void 동시_요청_처리량을_측정한다() throws Exception {
+        User user = userRepository.save(new User("load@test.com", "pw", UserRole.ROLE_USER, "load"));
+        todoRepository.saveAll(IntStream.range(0, 1_000)
+                .mapToObj(i -> new Todo("title" + i, "contents" + i, "Sunny", user))
+                .toList());
+        String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole(), user.getNickname(), user.getTokenEpoch());
+
+        HttpClient httpClient = HttpClient.newHttpClient();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/todos/cursor?size=10"))
+                .header("Authorization", bearerToken)
+                .GET()
+                .build();
+
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        List<Future<long[]>> futures = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int c = 0; c < clients; c++) {
+            futures.add(executor.submit(() -> {
+                long[] latencies = new long[REQUESTS_PER_CLIENT];
+                for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+                    long requestStart = System.nanoTime();
+                    HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                    latencies[i] = response.statusCode() == 200 ? System.nanoTime() - requestStart : -1;
+                }
+                return latencies;
+            }));
+        }
+
+        long[] all = new long[clients * REQUESTS_PER_CLIENT];
+        int index = 0;
+        for (Future<long[]> future : futures) {
+            for (long latency : future.get()) {
+                all[index++] = latency;
+            }
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        executor.shutdown();
+
+        long failures = Arrays.stream(all).filter(latency -> latency < 0).count();
+        long[] succeeded = Arrays.stream(all).filter(latency -> latency >= 0).sorted().toArray();
+        double p99Millis = succeeded.length == 0 ? 0 : succeeded[Math.max(0, (int) (succeeded.length * 0.99) - 1)] / 1_000_000.0;
+
+        System.out.printf("[%s] clients=%d, requests=%d, failures=%d, throughput=%,.0f req/s, p99=%.2f ms%n",
+                mode(), clients, all.length, failures, all.length / (elapsedNanos / 1_000_000_000.0), p99Millis);
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.expert;
+
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("virtual")
+@EnabledForJreRange(min = JRE.JAVA_21) // 가상 스레드는 Java 21 이상에서만 동작
+class VirtualThreadLoadBenchmarkTest extends ThreadingLoadBenchmarkTest {
+
+    @Override
+    protected String mode() {
+        return "virtual";
+    }
+}
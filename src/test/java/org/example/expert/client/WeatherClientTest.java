@@ -0,0 +1,198 @@
+package org.example.expert.client;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.exception.WeatherNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WeatherClientTest {
+
+    private HttpServer server;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private volatile int status = 200;
+    private volatile long delayMillis = 0;
+    private volatile byte[] body;
+
+    private SimpleMeterRegistry meterRegistry;
+    private WeatherClient weatherClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        String today = LocalDate.now().format(DateTimeFormatter.ofPattern("MM-dd"));
+        String tomorrow = LocalDate.now().plusDays(1).format(DateTimeFormatter.ofPattern("MM-dd"));
+        body = ("[{\"date\":\"" + today + "\",\"weather\":\"Sunny\"},"
+                + "{\"date\":\"" + tomorrow + "\",\"weather\":\"Rainy\"}]").getBytes(StandardCharsets.UTF_8);
+
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/f-api/weather.json", exchange -> {
+            requestCount.incrementAndGet();
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            byte[] response = body;
+            exchange.sendResponseHeaders(status, response.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(response);
+            }
+        });
+        server.start();
+
+        meterRegistry = new SimpleMeterRegistry();
+        weatherClient = createClient(Duration.ZERO);
+    }
+
+    private WeatherClient createClient(Duration missReloadInterval) {
+        return new WeatherClient(
+                new RestTemplateBuilder(),
+                "http://localhost:" + server.getAddress().getPort(),
+                missReloadInterval,
+                meterRegistry
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void 한_번_조회한_날씨_데이터는_캐시에서_반환한다() {
+        // when
+        String first = weatherClient.getTodayWeather();
+        String second = weatherClient.getTodayWeather();
+        String tomorrow = weatherClient.getWeather(LocalDate.now().plusDays(1));
+
+        // then
+        assertEquals("Sunny", first);
+        assertEquals("Sunny", second);
+        assertEquals("Rainy", tomorrow);
+        assertEquals(1, requestCount.get());
+        assertEquals(1.0, meterRegistry.get("weather.cache.requests").tag("result", "miss").counter().count());
+        assertEquals(2.0, meterRegistry.get("weather.cache.requests").tag("result", "hit").counter().count());
+    }
+
+    @Test
+    void 동시에_발생한_캐시_미스는_한_번의_외부_호출로_합쳐진다() throws Exception {
+        // given
+        delayMillis = 300;
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return weatherClient.getTodayWeather();
+            }));
+        }
+        start.countDown();
+
+        // then
+        for (Future<String> result : results) {
+            assertEquals("Sunny", result.get());
+        }
+        assertEquals(1, requestCount.get());
+        executor.shutdown();
+    }
+
+    @Test
+    void 백그라운드_갱신에_실패하면_기존_캐시를_유지한다() {
+        // given
+        weatherClient.getTodayWeather();
+        status = 500;
+
+        // when
+        weatherClient.refresh();
+
+        // then
+        assertEquals("Sunny", weatherClient.getTodayWeather());
+        assertEquals(1.0, meterRegistry.get("weather.cache.refreshes").tag("result", "failure").counter().count());
+    }
+
+    @Test
+    void 날씨_데이터를_받아오지_못하면_예외가_발생한다() {
+        // given
+        status = 500;
+
+        // when & then
+        assertThrows(RuntimeException.class, () -> weatherClient.getTodayWeather());
+        assertEquals(0.0, meterRegistry.get("weather.cache.requests").tag("result", "hit").counter().count());
+    }
+
+    @Test
+    void 캐시에_없는_날짜는_한_번_다시_받아온_뒤_조회한다() {
+        // given
+        LocalDate dayAfterTomorrow = LocalDate.now().plusDays(2);
+        weatherClient.getTodayWeather();
+        body = ("[{\"date\":\"" + dayAfterTomorrow.format(DateTimeFormatter.ofPattern("MM-dd")) + "\",\"weather\":\"Cloudy\"}]")
+                .getBytes(StandardCharsets.UTF_8);
+
+        // when
+        String weather = weatherClient.getWeather(dayAfterTomorrow);
+
+        // then
+        assertEquals("Cloudy", weather);
+        assertEquals(2, requestCount.get());
+    }
+
+    @Test
+    void 다시_받아와도_없는_날짜는_WeatherNotFoundException이_발생한다() {
+        // given
+        weatherClient.getTodayWeather();
+
+        // when & then
+        assertThrows(WeatherNotFoundException.class, () -> weatherClient.getWeather(LocalDate.now().plusDays(3)));
+        assertEquals(2, requestCount.get());
+    }
+
+    @Test
+    void 다시_받아오는_간격_안에서는_없는_날짜를_다시_받아오지_않는다() {
+        // given
+        WeatherClient client = createClient(Duration.ofMinutes(1));
+        client.getTodayWeather();
+
+        // when & then
+        assertThrows(WeatherNotFoundException.class, () -> client.getWeather(LocalDate.now().plusDays(3)));
+        assertThrows(WeatherNotFoundException.class, () -> client.getWeather(LocalDate.now().plusDays(3)));
+        assertEquals(1, requestCount.get());
+    }
+
+    @Test
+    void 날짜나_날씨가_비어_있는_항목은_제외한다() {
+        // given
+        String today = LocalDate.now().format(DateTimeFormatter.ofPattern("MM-dd"));
+        body = ("[{\"date\":null,\"weather\":\"Rainy\"},"
+                + "{\"date\":\"01-01\",\"weather\":null},"
+                + "{\"date\":\"" + today + "\",\"weather\":\"Sunny\"}]").getBytes(StandardCharsets.UTF_8);
+
+        // when & then
+        assertEquals("Sunny", weatherClient.getTodayWeather());
+    }
+}
@@ -0,0 +1,93 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET_KEY = "aGVsbG9oZWxsbzEyMzRoZWxsb2hlbGxvMTIzNGhlbGxvaGVsbG8xMjM0aGVsbG9oZWxsbzEyMzRoZWxsb2hlbGxvMTIzNGhlbGxvaGVsbG8xMjM0";
+
+    private JwtUtil jwtUtil;
+    private UserEpochTable userEpochTable;
+    private SimpleMeterRegistry meterRegistry;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", SECRET_KEY);
+        jwtUtil.init();
+
+        meterRegistry = new SimpleMeterRegistry();
+        userEpochTable = new UserEpochTable(mock(UserRepository.class), meterRegistry, 1000, Duration.ofSeconds(10), 5000);
+        filter = new JwtAuthenticationFilter(
+                jwtUtil,
+                new ObjectMapper(),
+                new JwtAuthenticationCache(100, meterRegistry),
+                userEpochTable,
+                meterRegistry
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private MockHttpServletResponse request(String bearerToken, MockFilterChain chain) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos");
+        request.addHeader("Authorization", bearerToken);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    @Test
+    void 현재_epoch로_발급된_토큰은_통과한다() throws Exception {
+        // given
+        userEpochTable.put(1L, 2);
+        String token = jwtUtil.createToken(1L, "user@test.com", UserRole.ROLE_USER, "user", 2);
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        MockHttpServletResponse response = request(token, chain);
+
+        // then
+        assertEquals(HttpStatus.OK.value(), response.getStatus());
+        assertNotNull(chain.getRequest());
+    }
+
+    @Test
+    void epoch가_증가하기_전에_발급된_토큰은_캐시된_토큰이라도_401을_반환한다() throws Exception {
+        // given: 한 번 통과해서 인증 객체가 캐시된 토큰
+        String token = jwtUtil.createToken(1L, "user@test.com", UserRole.ROLE_USER, "user", 0);
+        assertEquals(HttpStatus.OK.value(), request(token, new MockFilterChain()).getStatus());
+
+        // when: 권한/비밀번호 변경으로 epoch 증가
+        userEpochTable.put(1L, 1);
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = request(token, chain);
+
+        // then
+        assertEquals(HttpStatus.UNAUTHORIZED.value(), response.getStatus());
+        assertNull(chain.getRequest());
+        assertEquals(1.0, meterRegistry.get("jwt.revoked").counter().count());
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHashExecutorTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // 해시 계산이 release 될 때까지 끝나지 않는 인코더 (로그인이 몰려 풀이 모두 사용 중인 상황)
+    private final PasswordEncoder slowEncoder = new PasswordEncoder() {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "hashed-" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    };
+
+    private PasswordHashExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    void 대기열이_가득_차면_기다리지_않고_503을_반환한다() throws Exception {
+        // given: 스레드 1개, 대기열 1개가 모두 사용 중
+        executor = new PasswordHashExecutor(slowEncoder, 1, 1, 5000, meterRegistry);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> executor.encode("running"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> executor.encode("queued"));
+        while (meterRegistry.get("password.hash.queue.size").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        // when
+        long start = System.nanoTime();
+        ServiceUnavailableException exception = assertThrows(ServiceUnavailableException.class, () -> executor.encode("rejected"));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // then
+        assertTrue(elapsedMillis < 1000, "대기열이 가득 차면 바로 실패해야 한다: " + elapsedMillis + "ms");
+        assertEquals(1.0, meterRegistry.get("password.hash.rejected").counter().count());
+        ResponseEntity<Map<String, Object>> response = new GlobalExceptionHandler().handleServiceUnavailableException(exception);
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+
+        release.countDown();
+        assertEquals("hashed-running", running.get(5, TimeUnit.SECONDS));
+        assertEquals("hashed-queued", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void 대기_시간이_timeout을_넘으면_503을_반환한다() {
+        // given
+        executor = new PasswordHashExecutor(slowEncoder, 1, 1, 100, meterRegistry);
+
+        // when & then
+        assertThrows(ServiceUnavailableException.class, () -> executor.encode("slow"));
+        assertEquals(1.0, meterRegistry.get("password.hash.rejected").counter().count());
+    }
+}
@@ -0,0 +1,170 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.user.event.UserTokenRevokedEvent;
+import org.example.expert.domain.user.repository.UserEpoch;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserEpochTableTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserEpochTable table = new UserEpochTable(userRepository, new SimpleMeterRegistry(), 2, Duration.ofSeconds(10), 5000);
+
+    @Test
+    void epoch는_더_큰_값만_반영된다() {
+        // given
+        table.put(1L, 3);
+
+        // when
+        table.put(1L, 2); // 늦게 도착한 이전 값
+
+        // then
+        assertEquals(3, table.get(1L));
+        assertTrue(table.isRevoked(1L, 2));
+        assertFalse(table.isRevoked(1L, 3));
+    }
+
+    @Test
+    void 테이블에_없는_유저는_epoch_0으로_보고_통과시킨다() {
+        assertEquals(0, table.get(42L));
+        assertFalse(table.isRevoked(42L, 0));
+    }
+
+    @Test
+    void 크기를_늘리는_동안에도_기존_유저의_epoch를_잘못_읽지_않는다() throws Exception {
+        // given: 이미 등록된 유저 (epoch = id % 7 + 1)
+        int existing = 500;
+        for (long userId = 1; userId <= existing; userId++) {
+            table.put(userId, (int) (userId % 7 + 1));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        AtomicBoolean writing = new AtomicBoolean(true);
+
+        // when: 새 유저를 계속 추가해서 여러 번 크기를 늘리는 동안 기존 유저를 동시에 조회
+        Future<?> writer = executor.submit(() -> {
+            for (long userId = existing + 1; userId <= 200_000; userId++) {
+                table.put(userId, 1);
+            }
+            writing.set(false);
+        });
+        List<Future<Long>> readers = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            readers.add(executor.submit(() -> {
+                long mismatches = 0;
+                do {
+                    for (long userId = 1; userId <= existing; userId++) {
+                        if (table.get(userId) != userId % 7 + 1) {
+                            mismatches++;
+                        }
+                    }
+                } while (writing.get());
+                return mismatches;
+            }));
+        }
+
+        // then
+        writer.get(30, TimeUnit.SECONDS);
+        for (Future<Long> reader : readers) {
+            assertEquals(0L, reader.get(30, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+        assertEquals(1, table.get(200_000L));
+    }
+
+    @Test
+    void 갱신은_수정된_유저를_batch_size_단위로_끝까지_읽어서_반영한다() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        when(userRepository.findEpochsModifiedAfter(any(LocalDateTime.class), anyLong(), any(Pageable.class)))
+                .thenReturn(List.of(new UserEpoch(1L, 1, now), new UserEpoch(2L, 4, now)))
+                .thenReturn(List.of(new UserEpoch(3L, 2, now.plusSeconds(1))));
+
+        // when
+        table.refresh();
+
+        // then
+        assertEquals(1, table.get(1L));
+        assertEquals(4, table.get(2L));
+        assertEquals(2, table.get(3L));
+    }
+
+    @Test
+    void 시작할_때_전체_유저를_읽은_뒤에_반환한다() {
+        // given
+        when(userRepository.findEpochsModifiedAfter(any(LocalDateTime.class), anyLong(), any(Pageable.class)))
+                .thenReturn(List.of(new UserEpoch(1L, 3, LocalDateTime.now())));
+
+        // when
+        table.start();
+
+        // then: 주기 갱신을 기다리지 않아도 폐기된 토큰이 거부된다.
+        try {
+            assertTrue(table.isRevoked(1L, 2));
+        } finally {
+            table.shutdown();
+        }
+    }
+
+    @Test
+    void 시작할_때_초기_적재에_실패하면_예외를_던진다() {
+        // given
+        when(userRepository.findEpochsModifiedAfter(any(LocalDateTime.class), anyLong(), any(Pageable.class)))
+                .thenThrow(new IllegalStateException("DB unavailable"));
+
+        // when & then: 빈 테이블로 요청을 받지 않도록 시작을 중단한다.
+        assertThrows(IllegalStateException.class, table::start);
+        table.shutdown();
+    }
+
+    @Test
+    void 커밋_직후_갱신은_요청_스레드가_아닌_갱신_스레드에서_실행된다() throws Exception {
+        // given
+        when(userRepository.findEpochsModifiedAfter(any(LocalDateTime.class), anyLong(), any(Pageable.class)))
+                .thenReturn(List.of());
+        table.start();
+
+        CountDownLatch refreshing = new CountDownLatch(1);
+        CompletableFuture<String> refreshThread = new CompletableFuture<>();
+        when(userRepository.findEpochsModifiedAfter(any(LocalDateTime.class), anyLong(), any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    refreshThread.complete(Thread.currentThread().getName());
+                    refreshing.await(5, TimeUnit.SECONDS); // 오래 걸리는 갱신
+                    return List.of();
+                });
+
+        try {
+            // when
+            long start = System.nanoTime();
+            table.onUserTokenRevoked(new UserTokenRevokedEvent(List.of(1L)));
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            // then
+            assertTrue(elapsedMillis < 1000, "요청 스레드가 갱신을 기다렸다: " + elapsedMillis + "ms");
+            assertTrue(refreshThread.get(5, TimeUnit.SECONDS).startsWith("user-epoch-refresh-"));
+        } finally {
+            refreshing.countDown();
+            table.shutdown();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.expert.domain.audit.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.audit.enums.AuditOverflowPolicy;
+import org.example.expert.domain.audit.event.AdminAuditEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdminAuditBufferTest {
+
+    private static AdminAuditEvent event(long userId) {
+        return new AdminAuditEvent(userId, "UserAdminController.changeUserRole", "PATCH", "/admin/users/" + userId, LocalDateTime.now());
+    }
+
+    @Test
+    void 넣은_순서대로_꺼낸다() {
+        // given
+        AdminAuditBuffer buffer = new AdminAuditBuffer(8, AuditOverflowPolicy.DROP, 0, new SimpleMeterRegistry());
+        for (long i = 1; i <= 5; i++) {
+            buffer.offer(event(i));
+        }
+
+        // when
+        List<AdminAuditEvent> events = new ArrayList<>();
+        int drained = buffer.drainTo(events, 3);
+
+        // then
+        assertEquals(3, drained);
+        assertEquals(List.of(1L, 2L, 3L), events.stream().map(AdminAuditEvent::userId).toList());
+        assertEquals(2, buffer.size());
+    }
+
+    @Test
+    void 버퍼가_가득_차면_버리고_dropped_메트릭을_증가시킨다() {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AdminAuditBuffer buffer = new AdminAuditBuffer(4, AuditOverflowPolicy.DROP, 0, meterRegistry);
+        for (long i = 1; i <= 4; i++) {
+            assertTrue(buffer.offer(event(i)));
+        }
+
+        // when
+        boolean offered = buffer.offer(event(5));
+
+        // then
+        assertFalse(offered);
+        assertEquals(1.0, meterRegistry.get("admin.audit.dropped").counter().count());
+        assertEquals(1, buffer.droppedCount());
+
+        // 꺼낸 만큼 다시 넣을 수 있다.
+        buffer.drainTo(new ArrayList<>(), 1);
+        assertTrue(buffer.offer(event(6)));
+    }
+
+    @Test
+    void 여러_스레드에서_동시에_넣어도_유실되지_않는다() throws Exception {
+        // given
+        int threads = 8;
+        int perThread = 1000;
+        AdminAuditBuffer buffer = new AdminAuditBuffer(threads * perThread, AuditOverflowPolicy.DROP, 0, new SimpleMeterRegistry());
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        for (int t = 0; t < threads; t++) {
+            long base = (long) t * perThread;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    buffer.offer(event(base + i));
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // then
+        List<AdminAuditEvent> events = new ArrayList<>();
+        buffer.drainTo(events, Integer.MAX_VALUE);
+        assertEquals(threads * perThread, events.size());
+        assertEquals(threads * perThread, events.stream().map(AdminAuditEvent::userId).distinct().count());
+        assertEquals(0, buffer.size());
+    }
+}
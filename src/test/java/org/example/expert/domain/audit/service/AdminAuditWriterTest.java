@@ -0,0 +1,92 @@
+package org.example.expert.domain.audit.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.QueryDslConfig;
+import org.example.expert.domain.audit.enums.AuditOverflowPolicy;
+import org.example.expert.domain.audit.event.AdminAuditEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+
+// admin_audit 테이블은 AdminAudit 엔티티로 생성되고, 저장은 실제 H2 에 multi-row INSERT 로 실행한다.
+@DataJpaTest
+@Import({QueryDslConfig.class, PersistenceConfig.class})
+class AdminAuditWriterTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AdminAuditBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        buffer = new AdminAuditBuffer(2048, AuditOverflowPolicy.DROP, 0, meterRegistry);
+    }
+
+    private void offer(int count) {
+        for (long i = 1; i <= count; i++) {
+            buffer.offer(new AdminAuditEvent(i, "UserAdminController.changeUserRole", "PATCH", "/admin/users/" + i, LocalDateTime.now()));
+        }
+    }
+
+    private int auditRows() {
+        Integer rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM admin_audit", Integer.class);
+        return rows != null ? rows : 0;
+    }
+
+    @Test
+    void 버퍼를_비우면서_batch_size_단위로_모두_저장한다() {
+        // given
+        offer(1200);
+        AdminAuditWriter writer = new AdminAuditWriter(buffer, jdbcTemplate, 500, meterRegistry);
+
+        // when
+        writer.flush();
+
+        // then: 500 + 500 + 200 건을 INSERT 세 번으로 저장
+        assertEquals(1200, auditRows());
+        assertEquals(0, buffer.size());
+        assertEquals(1200.0, meterRegistry.get("admin.audit.written").counter().count());
+        assertEquals(3, meterRegistry.get("admin.audit.flush").timer().count());
+    }
+
+    @Test
+    void 저장에_실패한_묶음은_다음_주기에_다시_저장한다() {
+        // given: 첫 번째 INSERT 만 실패
+        offer(300);
+        JdbcTemplate failingOnce = spy(jdbcTemplate);
+        doThrow(new DataAccessResourceFailureException("DB unavailable"))
+                .doCallRealMethod()
+                .when(failingOnce).update(anyString(), any(Object[].class));
+        AdminAuditWriter writer = new AdminAuditWriter(buffer, failingOnce, 500, meterRegistry);
+
+        // when
+        writer.flush();
+
+        // then: 꺼낸 묶음은 버리지 않고 보관한다.
+        assertEquals(0, auditRows());
+        assertEquals(0.0, meterRegistry.get("admin.audit.written").counter().count());
+
+        // when
+        writer.flush();
+
+        // then
+        assertEquals(300, auditRows());
+        assertEquals(300.0, meterRegistry.get("admin.audit.written").counter().count());
+    }
+}
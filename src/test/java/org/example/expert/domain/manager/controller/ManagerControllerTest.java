@@ -0,0 +1,115 @@
+package org.example.expert.domain.manager.controller;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.example.expert.config.JwtAuthenticationFilter;
+import org.example.expert.domain.common.exception.ConflictException;
+import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
+import org.example.expert.domain.manager.service.ManagerService;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 컨트롤러 동작만 검증하기 위해 JWT 인증 필터는 mock 으로 대체하고, 필터 체인은 적용하지 않는다.
+@WebMvcTest(ManagerController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@Import(SimpleMeterRegistry.class)
+class ManagerControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ManagerService managerService;
+
+    @MockBean
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    @Test
+    void 담당자_일괄_등록에_성공한다() throws Exception {
+        // given
+        long todoId = 1L;
+        List<ManagerSaveResponse> responses = List.of(
+                new ManagerSaveResponse(10L, new UserResponse(2L, "a@test.com")),
+                new ManagerSaveResponse(11L, new UserResponse(3L, "b@test.com"))
+        );
+
+        // when
+        when(managerService.saveManagers(any(), eq(todoId), any())).thenReturn(responses);
+
+        // then
+        mockMvc.perform(post("/todos/{todoId}/managers/batch", todoId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"managerUserIds\":[2,3]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].id").value(10L))
+                .andExpect(jsonPath("$[1].user.email").value("b@test.com"));
+    }
+
+    @Test
+    void 담당자_일괄_등록_시_목록이_비어있으면_400을_반환한다() throws Exception {
+        mockMvc.perform(post("/todos/{todoId}/managers/batch", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"managerUserIds\":[]}"))
+                .andExpect(status().isBadRequest());
+        verify(managerService, never()).saveManagers(any(), anyLong(), any());
+    }
+
+    @Test
+    void 이미_등록된_담당자를_등록하면_409를_반환한다() throws Exception {
+        // given
+        long todoId = 1L;
+
+        // when
+        when(managerService.saveManagers(any(), eq(todoId), any()))
+                .thenThrow(new ConflictException("이미 등록된 담당자입니다."));
+
+        // then
+        mockMvc.perform(post("/todos/{todoId}/managers/batch", todoId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"managerUserIds\":[2]}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value(HttpStatus.CONFLICT.value()))
+                .andExpect(jsonPath("$.message").value("이미 등록된 담당자입니다."));
+    }
+
+    @Test
+    void 담당자_유니크_제약_이외의_무결성_오류는_409로_변환하지_않는다() {
+        // given
+        long todoId = 1L;
+
+        // when
+        when(managerService.saveManagers(any(), eq(todoId), any()))
+                .thenThrow(new DataIntegrityViolationException("NOT NULL constraint"));
+
+        // then: 처리하는 핸들러가 없으므로 컨테이너까지 전파되어 500으로 응답된다.
+        ServletException exception = assertThrows(ServletException.class, () ->
+                mockMvc.perform(post("/todos/{todoId}/managers/batch", todoId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"managerUserIds\":[2]}")));
+        assertInstanceOf(DataIntegrityViolationException.class, exception.getCause());
+    }
+}
@@ -0,0 +1,110 @@
+package org.example.expert.domain.manager.service;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.QueryDslConfig;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.ConflictException;
+import org.example.expert.domain.manager.dto.request.ManagerBatchSaveRequest;
+import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.service.TodoOwnershipGuard;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 유니크 제약 위반을 실제 DB(H2)에서 발생시키기 위해 리포지토리는 실제 빈을 사용하고, 작성자 확인만 mock 으로 대체한다.
+@DataJpaTest
+@Import({ManagerService.class, QueryDslConfig.class, PersistenceConfig.class})
+class ManagerServiceTest {
+
+    @Autowired
+    private ManagerService managerService;
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockBean
+    private TodoOwnershipGuard todoOwnershipGuard;
+
+    private User owner;
+    private User registered;
+    private User newcomer;
+    private Todo todo;
+
+    @BeforeEach
+    void setUp() {
+        owner = new User("owner@test.com", "pw", UserRole.ROLE_USER, "owner");
+        registered = new User("registered@test.com", "pw", UserRole.ROLE_USER, "registered");
+        newcomer = new User("newcomer@test.com", "pw", UserRole.ROLE_USER, "newcomer");
+        entityManager.persist(owner);
+        entityManager.persist(registered);
+        entityManager.persist(newcomer);
+
+        todo = new Todo("title", "contents", "Sunny", owner); // 작성자는 담당자로 자동 등록된다.
+        entityManager.persist(todo);
+        entityManager.persist(new Manager(registered, todo));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private AuthUser ownerAuth() {
+        return new AuthUser(owner.getId(), owner.getEmail(), UserRole.ROLE_USER);
+    }
+
+    private long managerCount() {
+        return entityManager.createQuery("SELECT t.managerCount FROM Todo t WHERE t.id = :id", Long.class)
+                .setParameter("id", todo.getId())
+                .getSingleResult();
+    }
+
+    @Test
+    void 담당자_일괄_등록_시_이미_등록된_유저는_건너뛰고_새_유저만_등록한다() {
+        // given
+        ManagerBatchSaveRequest request = new ManagerBatchSaveRequest(
+                List.of(registered.getId(), newcomer.getId(), newcomer.getId()));
+
+        // when
+        List<ManagerSaveResponse> responses = managerService.saveManagers(ownerAuth(), todo.getId(), request);
+
+        // then
+        assertEquals(1, responses.size());
+        assertEquals(newcomer.getId(), responses.get(0).getUser().getId());
+        assertEquals(3L, entityManager.createQuery("SELECT COUNT(m) FROM Manager m WHERE m.todo.id = :id", Long.class)
+                .setParameter("id", todo.getId())
+                .getSingleResult());
+    }
+
+    @Test
+    void 담당자_일괄_등록_시_새로_등록된_수만큼_담당자_수가_증가한다() {
+        // given
+        ManagerBatchSaveRequest request = new ManagerBatchSaveRequest(List.of(registered.getId(), newcomer.getId()));
+
+        // when
+        managerService.saveManagers(ownerAuth(), todo.getId(), request);
+
+        // then: 작성자(1) + 새 담당자(1), 이미 등록된 유저는 세지 않는다.
+        assertEquals(2L, managerCount());
+    }
+
+    @Test
+    void 이미_등록된_담당자를_다시_등록하면_ConflictException이_발생한다() {
+        // given
+        ManagerSaveRequest request = new ManagerSaveRequest(registered.getId());
+
+        // when & then
+        ConflictException exception = assertThrows(ConflictException.class,
+                () -> managerService.saveManager(ownerAuth(), todo.getId(), request));
+        assertEquals("이미 등록된 담당자입니다.", exception.getMessage());
+    }
+}
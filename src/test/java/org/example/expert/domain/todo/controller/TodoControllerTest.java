@@ -1,5 +1,7 @@
 package org.example.expert.domain.todo.controller;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.config.JwtAuthenticationFilter;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
@@ -9,19 +11,30 @@ import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
 
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+// 컨트롤러 동작만 검증하기 위해 JWT 인증 필터는 mock 으로 대체하고, 필터 체인은 적용하지 않는다.
+// (@WebMvcTest 는 MeterRegistry 를 만들지 않으므로 필터/어드바이스가 사용하는 레지스트리를 직접 등록)
 @WebMvcTest(TodoController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@Import(SimpleMeterRegistry.class)
 class TodoControllerTest {
 
     @Autowired
@@ -30,6 +43,9 @@ class TodoControllerTest {
     @MockBean
     private TodoService todoService;
 
+    @MockBean
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
     @Test
     void todo_단건_조회에_성공한다() throws Exception {
         // given
@@ -45,17 +61,37 @@ class TodoControllerTest {
                 "Sunny",
                 userResponse,
                 LocalDateTime.now(),
-                LocalDateTime.now()
+                LocalDateTime.now(),
+                0L,
+                1L
         );
 
         // when
+        when(todoService.getTodoETag(todoId)).thenReturn("\"1-abc\"");
         when(todoService.getTodo(todoId)).thenReturn(response);
 
         // then
         mockMvc.perform(get("/todos/{todoId}", todoId))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(todoId))
-                .andExpect(jsonPath("$.title").value(title));
+                .andExpect(jsonPath("$.title").value(title))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-abc\""));
+    }
+
+    @Test
+    void todo_단건_조회_시_ETag가_같다면_304를_반환한다() throws Exception {
+        // given
+        long todoId = 1L;
+        String eTag = "\"1-abc\"";
+
+        // when
+        when(todoService.getTodoETag(todoId)).thenReturn(eTag);
+
+        // then
+        mockMvc.perform(get("/todos/{todoId}", todoId).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        verify(todoService, never()).getTodo(todoId);
     }
 
     @Test
@@ -64,6 +100,8 @@ class TodoControllerTest {
         long todoId = 1L;
 
         // when
+        when(todoService.getTodoETag(todoId))
+                .thenThrow(new InvalidRequestException("Todo not found"));
         when(todoService.getTodo(todoId))
                 .thenThrow(new InvalidRequestException("Todo not found"));
 
@@ -0,0 +1,56 @@
+package org.example.expert.domain.todo.controller;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.config.JwtAuthenticationFilter;
+import org.example.expert.domain.todo.service.TodoViewProjector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 컨트롤러 동작만 검증하기 위해 JWT 인증 필터는 mock 으로 대체하고, 필터 체인은 적용하지 않는다.
+@WebMvcTest(TodoViewAdminController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@Import(SimpleMeterRegistry.class)
+class TodoViewAdminControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private TodoViewProjector todoViewProjector;
+
+    @MockBean
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    @Test
+    void 읽기_모델_재생성을_시작하면_202를_반환한다() throws Exception {
+        // when
+        when(todoViewProjector.startRebuild()).thenReturn(true);
+
+        // then
+        mockMvc.perform(post("/admin/todos/view/rebuild"))
+                .andExpect(status().isAccepted());
+    }
+
+    @Test
+    void 읽기_모델_재생성이_이미_진행_중이면_409를_반환한다() throws Exception {
+        // when
+        when(todoViewProjector.startRebuild()).thenReturn(false);
+
+        // then
+        mockMvc.perform(post("/admin/todos/view/rebuild"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value(HttpStatus.CONFLICT.value()))
+                .andExpect(jsonPath("$.message").value("읽기 모델 재생성이 이미 진행 중입니다."));
+    }
+}
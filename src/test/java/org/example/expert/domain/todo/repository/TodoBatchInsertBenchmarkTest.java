@@ -0,0 +1,202 @@
+package org.example.expert.domain.todo.repository;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.QueryDslConfig;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.WeatherStatus;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.test.context.transaction.AfterTransaction;
+import org.springframework.test.context.transaction.BeforeTransaction;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 일정 한 건씩 저장(POST /todos 를 여러 번 호출하는 경우)과 saveAll + JDBC 배치(POST /todos/batch)의 처리량을 비교한다.
+ * 기존 IDENTITY 전략은 INSERT 를 실행해야 id 를 알 수 있어서 JDBC 배치가 비활성화되므로,
+ * 같은 컬럼, 인덱스의 IDENTITY 테이블(benchmark_identity_todos)에 JDBC 로 저장한 결과를 기준값으로 함께 출력한다.
+ * JDBC 기준값은 Hibernate(영속성 컨텍스트, 2차 캐시)를 거치지 않으므로, 같은 테이블에 id 를 미리 할당해 배치 INSERT 한 결과와 비교한다.
+ * 기준 테이블은 엔티티가 아닌 JdbcTemplate 로 이 테스트 안에서만 만들고 지우기 때문에 다른 테스트의 스키마/2차 캐시 설정에 영향이 없다.
+ * ./gradlew benchmark -Pbenchmark.rows=20000 으로 실행한다.
+ * 내장 H2는 네트워크 왕복이 없기 때문에 MySQL(rewriteBatchedStatements=true)보다 차이가 작게 측정된다.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@Import({QueryDslConfig.class, PersistenceConfig.class})
+class TodoBatchInsertBenchmarkTest {
+
+    private static final int CHUNK_SIZE = 500; // POST /todos/batch 요청 한 번의 최대 크기
+
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final int rows = Math.min(Integer.getInteger("benchmark.rows", 200_000), 20_000);
+
+    // DDL 은 트랜잭션을 커밋시키므로 테스트 트랜잭션 밖에서 실행한다. (저장한 행은 테스트 트랜잭션과 함께 롤백)
+    @BeforeTransaction
+    void createIdentityTables() {
+        jdbcTemplate.execute("""
+                CREATE TABLE benchmark_identity_todos (
+                    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                    title VARCHAR(255),
+                    contents VARCHAR(255),
+                    weather VARCHAR(255),
+                    weather_status VARCHAR(255),
+                    comment_count BIGINT NOT NULL,
+                    manager_count BIGINT NOT NULL,
+                    user_id BIGINT NOT NULL REFERENCES users (id),
+                    created_at TIMESTAMP(6),
+                    modified_at TIMESTAMP(6)
+                )""");
+        jdbcTemplate.execute("CREATE INDEX idx_benchmark_identity_todos_weather_modified_at ON benchmark_identity_todos (weather, modified_at)");
+        jdbcTemplate.execute("CREATE INDEX idx_benchmark_identity_todos_modified_at_id ON benchmark_identity_todos (modified_at, id)");
+        jdbcTemplate.execute("CREATE INDEX idx_benchmark_identity_todos_weather_status_id ON benchmark_identity_todos (weather_status, id)");
+        jdbcTemplate.execute("""
+                CREATE TABLE benchmark_identity_managers (
+                    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                    user_id BIGINT NOT NULL REFERENCES users (id),
+                    todo_id BIGINT NOT NULL REFERENCES benchmark_identity_todos (id),
+                    CONSTRAINT uk_benchmark_identity_managers_todo_id_user_id UNIQUE (todo_id, user_id)
+                )""");
+    }
+
+    @AfterTransaction
+    void dropIdentityTables() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS benchmark_identity_managers");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS benchmark_identity_todos");
+    }
+
+    @Test
+    void 단건_저장과_배치_저장의_처리량을_비교한다() {
+        User user = new User("bench@test.com", "pw", UserRole.ROLE_USER, "bench");
+        entityManager.persist(user);
+        entityManager.flush();
+
+        // 워밍업
+        saveOneByOne(user, 500);
+        saveIdentityInBatches(user, 500);
+        saveJdbcInBatches(user, 0, 500);
+        saveInBatches(user, 500);
+
+        long start = System.nanoTime();
+        saveOneByOne(user, rows);
+        long singleNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        saveIdentityInBatches(user, rows);
+        long identityBatchNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        saveJdbcInBatches(user, 500, rows);
+        long jdbcBatchNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        saveInBatches(user, rows);
+        long batchNanos = System.nanoTime() - start;
+
+        System.out.printf("[rows=%d] 단건 저장: %,.0f todos/s, SEQUENCE 배치 저장: %,.0f todos/s / JDBC 기준 IDENTITY 한 건씩: %,.0f todos/s, id 미리 할당 배치: %,.0f todos/s%n",
+                rows, throughput(singleNanos), throughput(batchNanos), throughput(identityBatchNanos), throughput(jdbcBatchNanos));
+    }
+
+    private double throughput(long nanos) {
+        return rows / (nanos / 1_000_000_000.0);
+    }
+
+    // 요청마다 트랜잭션이 끝나며 flush 되는 상황을 재현
+    private void saveOneByOne(User user, int count) {
+        for (int i = 0; i < count; i++) {
+            todoRepository.save(new Todo("title" + i, "contents" + i, "Sunny", user));
+            entityManager.flush();
+            entityManager.clear();
+        }
+    }
+
+    private void saveInBatches(User user, int count) {
+        List<Todo> chunk = new ArrayList<>(CHUNK_SIZE);
+        for (int i = 0; i < count; i++) {
+            chunk.add(new Todo("title" + i, "contents" + i, "Sunny", user));
+            if (chunk.size() == CHUNK_SIZE || i == count - 1) {
+                todoRepository.saveAll(chunk);
+                entityManager.flush();
+                entityManager.clear();
+                chunk.clear();
+            }
+        }
+    }
+
+    /**
+     * 시퀀스 전략으로 바꾸기 전(IDENTITY)의 저장 방식
+     * 일정은 INSERT 마다 생성된 id 를 받아야 하므로 한 건씩 실행하고, 작성자 담당자 행은 500개씩 JDBC 배치로 INSERT 한다.
+     * (Hibernate 는 IDENTITY 엔티티의 담당자 행도 배치하지 않으므로, 기준값으로는 유리한 쪽이다.)
+     */
+    private void saveIdentityInBatches(User user, int count) {
+        String insertTodo = "INSERT INTO benchmark_identity_todos "
+                + "(title, contents, weather, weather_status, comment_count, manager_count, user_id, created_at, modified_at) "
+                + "VALUES (?, ?, ?, ?, 0, 1, ?, ?, ?)";
+        List<Object[]> managers = new ArrayList<>(CHUNK_SIZE);
+        for (int i = 0; i < count; i++) {
+            String title = "title" + i;
+            String contents = "contents" + i;
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.update(connection -> {
+                PreparedStatement statement = connection.prepareStatement(insertTodo, Statement.RETURN_GENERATED_KEYS);
+                statement.setString(1, title);
+                statement.setString(2, contents);
+                statement.setString(3, "Sunny");
+                statement.setString(4, WeatherStatus.RESOLVED.name());
+                statement.setLong(5, user.getId());
+                statement.setTimestamp(6, now);
+                statement.setTimestamp(7, now);
+                return statement;
+            }, keyHolder);
+            managers.add(new Object[]{user.getId(), Objects.requireNonNull(keyHolder.getKey()).longValue()});
+
+            if (managers.size() == CHUNK_SIZE || i == count - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO benchmark_identity_managers (user_id, todo_id) VALUES (?, ?)", managers);
+                managers.clear();
+            }
+        }
+    }
+
+    // 시퀀스 전략처럼 id 를 미리 알고 있을 때: 일정과 담당자 행 모두 500개씩 JDBC 배치로 INSERT 한다.
+    private void saveJdbcInBatches(User user, long offset, int count) {
+        long firstId = 1_000_000_000L + offset; // IDENTITY 로 생성되는 id 와 겹치지 않는 범위
+        List<Object[]> todos = new ArrayList<>(CHUNK_SIZE);
+        List<Object[]> managers = new ArrayList<>(CHUNK_SIZE);
+        for (int i = 0; i < count; i++) {
+            long id = firstId + i;
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            todos.add(new Object[]{id, "title" + i, "contents" + i, "Sunny", WeatherStatus.RESOLVED.name(), user.getId(), now, now});
+            managers.add(new Object[]{user.getId(), id});
+
+            if (todos.size() == CHUNK_SIZE || i == count - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO benchmark_identity_todos "
+                        + "(id, title, contents, weather, weather_status, comment_count, manager_count, user_id, created_at, modified_at) "
+                        + "VALUES (?, ?, ?, ?, ?, 0, 1, ?, ?, ?)", todos);
+                jdbcTemplate.batchUpdate("INSERT INTO benchmark_identity_managers (user_id, todo_id) VALUES (?, ?)", managers);
+                todos.clear();
+                managers.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package org.example.expert.domain.todo.repository;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.QueryDslConfig;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.event.TodoChangedEvent;
+import org.example.expert.domain.todo.service.TodoCounterReconciliationWorker;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 2차 캐시는 커밋된 데이터만 보관하므로 테스트 트랜잭션 없이 단계마다 커밋하고, 끝나면 직접 정리한다.
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({QueryDslConfig.class, PersistenceConfig.class})
+class TodoCounterRepositoryTest {
+
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User user;
+    private Long todoId;
+    private Long otherTodoId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            user = new User("owner@test.com", "pw", UserRole.ROLE_USER, "owner");
+            entityManager.persist(user);
+            Todo todo = new Todo("title", "contents", "Sunny", user);
+            Todo otherTodo = new Todo("other", "contents", "Sunny", user);
+            entityManager.persist(todo);
+            entityManager.persist(otherTodo);
+            todoId = todo.getId();
+            otherTodoId = otherTodo.getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM Comment").executeUpdate();
+            entityManager.createQuery("DELETE FROM Manager").executeUpdate();
+            entityManager.createQuery("DELETE FROM Todo").executeUpdate();
+            entityManager.createQuery("DELETE FROM User").executeUpdate();
+        });
+        entityManager.getEntityManagerFactory().getCache().evictAll();
+    }
+
+    private int inTransaction(IntSupplier update) {
+        Integer updated = transactionTemplate.execute(status -> update.getAsInt());
+        return updated != null ? updated : 0;
+    }
+
+    @Test
+    void 댓글_수를_증가시키면_해당_일정만_2차_캐시에서_제거된다() {
+        // given: 두 일정 모두 2차 캐시에 올라간 상태
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        todoRepository.findById(todoId);
+        todoRepository.findById(otherTodoId);
+        assertTrue(cache.contains(Todo.class, todoId));
+        assertTrue(cache.contains(Todo.class, otherTodoId));
+
+        // when
+        int updated = inTransaction(() -> todoRepository.incrementCommentCount(todoId));
+
+        // then
+        assertEquals(1, updated);
+        assertFalse(cache.contains(Todo.class, todoId));
+        assertTrue(cache.contains(Todo.class, otherTodoId));
+        assertEquals(1, todoRepository.findById(todoId).orElseThrow().getCommentCount());
+    }
+
+    @Test
+    void 존재하지_않는_일정의_카운터를_변경하면_0을_반환한다() {
+        assertEquals(0, inTransaction(() -> todoRepository.incrementCommentCount(-1L)));
+        assertEquals(0, inTransaction(() -> todoRepository.incrementManagerCount(-1L)));
+    }
+
+    @Test
+    void 담당자_수는_0_미만으로_감소하지_않는다() {
+        // given: 일정 생성 시 작성자가 담당자로 등록되어 managerCount = 1
+        assertEquals(1, inTransaction(() -> todoRepository.decrementManagerCount(todoId)));
+
+        // when
+        int updated = inTransaction(() -> todoRepository.decrementManagerCount(todoId));
+
+        // then
+        assertEquals(0, updated);
+        assertEquals(0, todoRepository.findById(todoId).orElseThrow().getManagerCount());
+    }
+
+    @Test
+    void 보정_작업은_실제_행_수와_다른_카운터를_바로잡는다() {
+        // given: 카운터 증가 없이 댓글 2개, 담당자 1명 추가
+        transactionTemplate.executeWithoutResult(status -> {
+            Todo todo = entityManager.getReference(Todo.class, todoId);
+            User owner = entityManager.getReference(User.class, user.getId());
+            User manager = new User("manager@test.com", "pw", UserRole.ROLE_USER, "manager");
+            entityManager.persist(manager);
+            entityManager.persist(new Comment("comment1", owner, todo));
+            entityManager.persist(new Comment("comment2", owner, todo));
+            entityManager.persist(new Manager(manager, todo));
+        });
+
+        List<Object> publishedEvents = new ArrayList<>();
+        TodoCounterReconciliationWorker worker = new TodoCounterReconciliationWorker(todoRepository, transactionTemplate, publishedEvents::add);
+        ReflectionTestUtils.setField(worker, "batchSize", 1);
+
+        // when
+        worker.reconcile();
+
+        // then
+        Todo reconciled = todoRepository.findById(todoId).orElseThrow();
+        assertEquals(2, reconciled.getCommentCount());
+        assertEquals(2, reconciled.getManagerCount());
+        Todo other = todoRepository.findById(otherTodoId).orElseThrow();
+        assertEquals(0, other.getCommentCount());
+        assertEquals(1, other.getManagerCount());
+        // 보정된 일정만 읽기 모델 갱신 대상으로 알린다. (댓글 수, 담당자 수 보정 각각 1번)
+        assertEquals(List.of(new TodoChangedEvent(todoId), new TodoChangedEvent(todoId)), publishedEvents);
+    }
+}
@@ -0,0 +1,129 @@
+package org.example.expert.domain.todo.repository;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.QueryDslConfig;
+import org.example.expert.domain.todo.entity.Todo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기존 JPQL((:param IS NULL OR ...))과 QueryDSL 동적 조건 조회의 응답 시간을 비교한다.
+ * 일반 테스트(./gradlew test)에서는 제외되며 ./gradlew benchmark -Pbenchmark.rows=1000000 으로 실행한다.
+ * 내장 H2 기준 수치이므로 MySQL 실행 계획 차이(인덱스 선택)는 운영 DB에서 EXPLAIN으로 함께 확인한다.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@Import({QueryDslConfig.class, PersistenceConfig.class})
+class TodoRepositoryBenchmarkTest {
+
+    private static final String LEGACY_QUERY = """
+            SELECT t
+            FROM Todo t
+            LEFT JOIN FETCH t.user u
+            WHERE (:weather IS NULL OR t.weather = :weather)
+            AND (:startAt IS NULL OR t.modifiedAt >= :startAt)
+            AND (:endAt IS NULL OR t.modifiedAt <= :endAt)
+            ORDER BY t.modifiedAt DESC
+            """;
+    private static final String LEGACY_COUNT_QUERY = """
+            SELECT COUNT(t)
+            FROM Todo t
+            WHERE (:weather IS NULL OR t.weather = :weather)
+            AND (:startAt IS NULL OR t.modifiedAt >= :startAt)
+            AND (:endAt IS NULL OR t.modifiedAt <= :endAt)
+            """;
+    private static final String[] WEATHERS = {"Sunny", "Cloudy", "Rainy", "Snowy"};
+    private static final int ITERATIONS = 20;
+
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private DataSource dataSource;
+
+    private final int rows = Integer.getInteger("benchmark.rows", 200_000);
+    private final LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @BeforeEach
+    void setUp() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        Timestamp now = Timestamp.valueOf(base);
+        jdbcTemplate.update("INSERT INTO users (id, email, password, user_role, nickname, token_epoch, created_at, modified_at) VALUES (1, 'bench@test.com', 'pw', 'ROLE_USER', 'bench', 0, ?, ?)", now, now);
+
+        List<Object[]> batch = new ArrayList<>();
+        for (int i = 1; i <= rows; i++) {
+            Timestamp modifiedAt = Timestamp.valueOf(base.plusSeconds(i));
+            batch.add(new Object[]{(long) i, "title" + i, "contents" + i, WEATHERS[i % WEATHERS.length], 1L, modifiedAt, modifiedAt});
+            if (batch.size() == 10_000 || i == rows) {
+                jdbcTemplate.batchUpdate("INSERT INTO todos (id, title, contents, weather, user_id, created_at, modified_at, comment_count, manager_count) VALUES (?, ?, ?, ?, ?, ?, ?, 0, 0)", batch);
+                batch.clear();
+            }
+        }
+    }
+
+    @Test
+    void 조건_조합별_기존_JPQL과_동적_조회를_비교한다() {
+        LocalDateTime startAt = base.plusSeconds(rows / 2);
+        LocalDateTime endAt = base.plusSeconds(rows / 2 + rows / 10);
+
+        measure("조건 없음", null, null, null);
+        measure("weather", "Sunny", null, null);
+        measure("기간", null, startAt, endAt);
+        measure("weather + 기간", "Rainy", startAt, endAt);
+    }
+
+    private void measure(String label, String weather, LocalDateTime startAt, LocalDateTime endAt) {
+        PageRequest pageable = PageRequest.of(100, 10);
+
+        // 워밍업
+        legacy(weather, startAt, endAt, pageable);
+        todoRepository.findTodos(weather, startAt, endAt, pageable);
+        entityManager.clear();
+
+        long legacyNanos = 0;
+        long dynamicNanos = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            legacy(weather, startAt, endAt, pageable);
+            legacyNanos += System.nanoTime() - start;
+            entityManager.clear();
+
+            start = System.nanoTime();
+            todoRepository.findTodos(weather, startAt, endAt, pageable);
+            dynamicNanos += System.nanoTime() - start;
+            entityManager.clear();
+        }
+
+        System.out.printf("[rows=%d] %-14s legacy JPQL: %8.2f ms, QueryDSL: %8.2f ms%n",
+                rows, label, legacyNanos / 1_000_000.0 / ITERATIONS, dynamicNanos / 1_000_000.0 / ITERATIONS);
+    }
+
+    private void legacy(String weather, LocalDateTime startAt, LocalDateTime endAt, PageRequest pageable) {
+        entityManager.createQuery(LEGACY_QUERY, Todo.class)
+                .setParameter("weather", weather)
+                .setParameter("startAt", startAt)
+                .setParameter("endAt", endAt)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+        entityManager.createQuery(LEGACY_COUNT_QUERY, Long.class)
+                .setParameter("weather", weather)
+                .setParameter("startAt", startAt)
+                .setParameter("endAt", endAt)
+                .getSingleResult();
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.expert.domain.todo.repository;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.QueryDslConfig;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.support.QueryBudget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 목록 조회의 fetch 전략이 바뀌어 N+1이 생기면 실패하도록 쿼리 개수를 고정한다.
+ */
+@DataJpaTest
+@Import({QueryDslConfig.class, PersistenceConfig.class})
+class TodoRepositoryQueryBudgetTest {
+
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private ManagerRepository managerRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long todoId;
+
+    @BeforeEach
+    void setUp() {
+        User manager = new User("manager@test.com", "pw", UserRole.ROLE_USER, "manager");
+        entityManager.persist(manager);
+
+        for (int i = 0; i < 5; i++) {
+            User user = new User("user" + i + "@test.com", "pw", UserRole.ROLE_USER, "user" + i);
+            entityManager.persist(user);
+
+            Todo todo = new Todo("title" + i, "contents" + i, "Sunny", user);
+            entityManager.persist(todo);
+            entityManager.persist(new Comment("comment" + i, user, todo));
+            entityManager.persist(new Manager(manager, todo)); // 작성자는 일정 생성 시 담당자로 자동 등록된다.
+            todoId = todo.getId();
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @QueryBudget(2)
+    void 일정_목록은_목록_조회와_COUNT_쿼리만_실행한다() {
+        // when
+        Page<TodoResponse> page = todoRepository.findTodos(null, null, null, PageRequest.of(0, 3));
+
+        // then
+        assertEquals(3, page.getContent().size());
+        assertEquals(5, page.getTotalElements());
+        page.getContent().forEach(todo -> todo.getUser().getEmail());
+    }
+
+    @Test
+    @QueryBudget(1)
+    void 댓글_목록은_한_번의_쿼리로_조회한다() {
+        assertEquals(1, commentRepository.findCommentResponsesByTodoId(todoId).size());
+    }
+
+    @Test
+    @QueryBudget(1)
+    void 담당자_목록은_한_번의_쿼리로_조회한다() {
+        // 일정 생성 시 자동 등록된 작성자 + 추가 등록한 담당자
+        assertEquals(2, managerRepository.findManagerResponsesByTodoId(todoId).size());
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.expert.domain.todo.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.repository.TodoSearchDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class TodoSearchIndexTest {
+
+    private TodoSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TodoSearchIndex(mock(TodoRepository.class), new SimpleMeterRegistry(), 100, 10);
+        index.add(new TodoSearchDocument(1L, "Spring Boot 공부", "JPA 와 QueryDSL 정리"));
+        index.add(new TodoSearchDocument(2L, "장보기", "우유, spring water"));
+        index.add(new TodoSearchDocument(3L, "Spring Security", "spring spring 필터 체인"));
+    }
+
+    @Test
+    void 제목에_나온_검색어와_출현_횟수가_많은_일정이_먼저_조회된다() {
+        List<Long> result = index.search("spring", 10);
+
+        assertEquals(List.of(3L, 1L, 2L), result);
+    }
+
+    @Test
+    void 별표로_끝나는_검색어는_접두어로_검색된다() {
+        assertEquals(List.of(3L), index.search("secu*", 10));
+        assertEquals(List.of(1L), index.search("query*", 10));
+        assertTrue(index.search("secu", 10).isEmpty());
+    }
+
+    @Test
+    void limit_만큼만_점수_순으로_반환한다() {
+        assertEquals(List.of(3L), index.search("spring", 1));
+    }
+
+    @Test
+    void 삭제된_일정은_검색_결과의_자리를_차지하지_않는다() {
+        // when
+        index.remove(3L);
+
+        // then
+        assertEquals(List.of(1L, 2L), index.search("spring", 2));
+        assertTrue(index.search("secu*", 10).isEmpty());
+    }
+
+    @Test
+    void max_postings를_넘는_일정은_색인하지_않는다() {
+        TodoSearchIndex small = new TodoSearchIndex(mock(TodoRepository.class), new SimpleMeterRegistry(), 3, 10);
+        small.add(new TodoSearchDocument(1L, "a b", "c"));
+        small.add(new TodoSearchDocument(2L, "a", "d"));
+
+        assertEquals(List.of(1L), small.search("a", 10));
+        assertTrue(small.search("d", 10).isEmpty());
+    }
+}
@@ -0,0 +1,156 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.QueryDslConfig;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.repository.TodoViewRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+// 2차 캐시는 커밋된 데이터만 보관하므로 테스트 트랜잭션 없이 단계마다 커밋하고, 끝나면 직접 정리한다.
+// 삭제에 필요한 리포지토리는 실제 빈을 사용하고, 날씨/COUNT 캐시/검색 색인은 mock 으로 대체한다.
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({QueryDslConfig.class, PersistenceConfig.class})
+class TodoServiceTest {
+
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private ManagerRepository managerRepository;
+    @Autowired
+    private TodoViewRepository todoViewRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private User owner;
+    private User other;
+    private Long todoId;
+    private Long otherTodoId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            owner = new User("owner@test.com", "pw", UserRole.ROLE_USER, "owner");
+            other = new User("other@test.com", "pw", UserRole.ROLE_USER, "other");
+            entityManager.persist(owner);
+            entityManager.persist(other);
+
+            Todo todo = new Todo("title", "contents", "Sunny", owner); // 작성자는 담당자로 자동 등록된다.
+            Todo otherTodo = new Todo("other", "contents", "Sunny", owner);
+            entityManager.persist(todo);
+            entityManager.persist(otherTodo);
+            entityManager.persist(new Manager(other, todo));
+            entityManager.persist(new Comment("comment1", owner, todo));
+            entityManager.persist(new Comment("comment2", other, todo));
+            entityManager.persist(new Comment("comment3", owner, otherTodo));
+            todoId = todo.getId();
+            otherTodoId = otherTodo.getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM Comment").executeUpdate();
+            entityManager.createQuery("DELETE FROM Manager").executeUpdate();
+            entityManager.createQuery("DELETE FROM Todo").executeUpdate();
+            entityManager.createQuery("DELETE FROM User").executeUpdate();
+        });
+        entityManager.getEntityManagerFactory().getCache().evictAll();
+    }
+
+    // 요청마다 새로 만들어지는 @RequestScope 가드를 재현하기 위해 호출마다 서비스를 새로 만든다.
+    private TodoService todoService() {
+        return new TodoService(
+                todoRepository,
+                commentRepository,
+                managerRepository,
+                mock(WeatherClient.class),
+                mock(TodoCountCache.class),
+                mock(TodoSearchIndex.class),
+                eventPublisher,
+                new TodoOwnershipGuard(todoRepository),
+                todoViewRepository
+        );
+    }
+
+    private long count(String jpql, Long todoId) {
+        return entityManager.createQuery(jpql, Long.class).setParameter("todoId", todoId).getSingleResult();
+    }
+
+    @Test
+    void 일정을_삭제하면_댓글과_담당자도_함께_삭제된다() {
+        // when
+        transactionTemplate.executeWithoutResult(status ->
+                todoService().deleteTodo(new AuthUser(owner.getId(), owner.getEmail(), UserRole.ROLE_USER), todoId));
+
+        // then
+        assertTrue(todoRepository.findById(todoId).isEmpty());
+        assertEquals(0, count("SELECT COUNT(c) FROM Comment c WHERE c.todo.id = :todoId", todoId));
+        assertEquals(0, count("SELECT COUNT(m) FROM Manager m WHERE m.todo.id = :todoId", todoId));
+        // 다른 일정의 댓글/담당자는 그대로
+        assertEquals(1, count("SELECT COUNT(c) FROM Comment c WHERE c.todo.id = :todoId", otherTodoId));
+        assertEquals(1, count("SELECT COUNT(m) FROM Manager m WHERE m.todo.id = :todoId", otherTodoId));
+    }
+
+    @Test
+    void 일정을_만든_유저가_아니면_삭제할_수_없다() {
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                transactionTemplate.executeWithoutResult(status ->
+                        todoService().deleteTodo(new AuthUser(other.getId(), other.getEmail(), UserRole.ROLE_USER), todoId)));
+
+        // then
+        assertEquals("일정을 만든 유저만 삭제할 수 있습니다.", exception.getMessage());
+        assertTrue(todoRepository.findById(todoId).isPresent());
+        assertEquals(2, count("SELECT COUNT(c) FROM Comment c WHERE c.todo.id = :todoId", todoId));
+    }
+
+    @Test
+    void 일정을_삭제해도_다른_일정은_2차_캐시에_남아있다() {
+        // given: 두 일정 모두 2차 캐시에 올라간 상태
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        todoRepository.findById(todoId);
+        todoRepository.findById(otherTodoId);
+        assertTrue(cache.contains(Todo.class, todoId));
+        assertTrue(cache.contains(Todo.class, otherTodoId));
+
+        // when
+        transactionTemplate.executeWithoutResult(status ->
+                todoService().deleteTodo(new AuthUser(owner.getId(), owner.getEmail(), UserRole.ROLE_USER), todoId));
+
+        // then
+        assertFalse(cache.contains(Todo.class, todoId));
+        assertTrue(cache.contains(Todo.class, otherTodoId));
+    }
+}
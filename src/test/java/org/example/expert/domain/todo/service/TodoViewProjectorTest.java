@@ -0,0 +1,213 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.QueryDslConfig;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.entity.TodoView;
+import org.example.expert.domain.todo.event.TodoChangedEvent;
+import org.example.expert.domain.todo.event.TodoSavedEvent;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.repository.TodoViewRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 이벤트는 커밋 이후(AFTER_COMMIT)에만 전달되므로 테스트 트랜잭션 없이 단계마다 커밋하고, 끝나면 직접 정리한다.
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({TodoViewProjector.class, QueryDslConfig.class, PersistenceConfig.class})
+class TodoViewProjectorTest {
+
+    @Autowired
+    private TodoViewProjector todoViewProjector;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private TodoViewRepository todoViewRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            owner = new User("owner@test.com", "pw", UserRole.ROLE_USER, "owner");
+            entityManager.persist(owner);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM TodoView").executeUpdate();
+            entityManager.createQuery("DELETE FROM Manager").executeUpdate();
+            entityManager.createQuery("DELETE FROM Todo").executeUpdate();
+            entityManager.createQuery("DELETE FROM User").executeUpdate();
+        });
+        entityManager.getEntityManagerFactory().getCache().evictAll();
+    }
+
+    // 일정을 저장하고 커밋 후 읽기 모델에 반영한다.
+    private Long saveTodo(String weather) {
+        Long todoId = transactionTemplate.execute(status -> {
+            Todo todo = new Todo("title", "contents", weather, entityManager.getReference(User.class, owner.getId()));
+            entityManager.persist(todo);
+            eventPublisher.publishEvent(new TodoSavedEvent(todo.getId(), todo.getTitle(), todo.getContents()));
+            return todo.getId();
+        });
+        todoViewProjector.refreshDirty();
+        return todoId;
+    }
+
+    @Test
+    void 새로_저장된_일정은_읽기_모델에_추가된다() {
+        // when
+        Long todoId = saveTodo("Sunny");
+
+        // then
+        TodoView view = todoViewRepository.findById(todoId).orElseThrow();
+        assertEquals("title", view.getTitle());
+        assertEquals("Sunny", view.getWeather());
+        assertEquals(owner.getId(), view.getOwnerId());
+        assertEquals("owner@test.com", view.getOwnerEmail());
+        assertEquals(1, view.getManagerCount());
+    }
+
+    @Test
+    void 카운터가_변경된_일정은_읽기_모델도_갱신된다() {
+        // given
+        Long todoId = saveTodo("Sunny");
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            todoRepository.incrementCommentCount(todoId);
+            eventPublisher.publishEvent(new TodoChangedEvent(todoId));
+        });
+        todoViewProjector.refreshDirty();
+
+        // then
+        assertEquals(1, todoViewRepository.findById(todoId).orElseThrow().getCommentCount());
+    }
+
+    @Test
+    void 날씨_보강_작업이_처리한_일정은_읽기_모델에도_날씨가_반영된다() {
+        // given: 날씨 없이 저장되어 보강 대기 중인 일정
+        Long todoId = saveTodo(null);
+        assertNull(todoViewRepository.findById(todoId).orElseThrow().getWeather());
+
+        WeatherClient weatherClient = mock(WeatherClient.class);
+        when(weatherClient.getWeather(any(LocalDate.class))).thenReturn("Rainy");
+        TodoWeatherEnrichmentWorker worker = new TodoWeatherEnrichmentWorker(todoRepository, weatherClient, transactionTemplate, eventPublisher);
+        ReflectionTestUtils.setField(worker, "batchSize", 10);
+
+        // when
+        worker.drain();
+        todoViewProjector.refreshDirty();
+
+        // then
+        assertEquals("Rainy", todoViewRepository.findById(todoId).orElseThrow().getWeather());
+    }
+
+    @Test
+    void 삭제된_일정은_읽기_모델에서도_삭제된다() {
+        // given
+        Long todoId = saveTodo("Sunny");
+        Long otherTodoId = saveTodo("Sunny");
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM Manager m WHERE m.todo.id = :todoId").setParameter("todoId", todoId).executeUpdate();
+            todoRepository.deleteByIdInBulk(todoId);
+            eventPublisher.publishEvent(new TodoChangedEvent(todoId));
+        });
+        todoViewProjector.refreshDirty();
+
+        // then
+        assertFalse(todoViewRepository.existsById(todoId));
+        assertTrue(todoViewRepository.existsById(otherTodoId));
+    }
+
+    private void awaitRebuild(TodoViewProjector projector) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (projector.isRebuilding() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertFalse(projector.isRebuilding());
+    }
+
+    @Test
+    void 전체_재생성은_백그라운드에서_실행되어_누락된_행을_채우고_원본이_없는_행을_지운다() throws Exception {
+        // given: 읽기 모델에서 빠진 일정과, 원본이 삭제됐지만 남아 있는 행
+        Long todoId = saveTodo("Sunny");
+        transactionTemplate.executeWithoutResult(status -> {
+            todoViewRepository.deleteAllByIdInBatch(List.of(todoId));
+            todoViewRepository.save(new TodoView(-1L, "orphan", null, null, null, owner.getId(), "owner@test.com", "owner", 0, 0));
+        });
+
+        // when
+        assertTrue(todoViewProjector.startRebuild());
+        awaitRebuild(todoViewProjector);
+
+        // then
+        assertTrue(todoViewRepository.existsById(todoId));
+        assertFalse(todoViewRepository.existsById(-1L));
+    }
+
+    @Test
+    void 전체_재생성이_진행_중이면_다시_시작하지_않고_dirty_갱신은_기다리지_않는다() throws Exception {
+        // given: id 조회에서 멈춰 있는 재생성
+        CountDownLatch release = new CountDownLatch(1);
+        TodoRepository blockingTodoRepository = mock(TodoRepository.class);
+        when(blockingTodoRepository.findIdsAfter(anyLong(), any())).thenAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return List.of();
+        });
+        TodoViewProjector projector = new TodoViewProjector(blockingTodoRepository, todoViewRepository, transactionTemplate);
+        ReflectionTestUtils.setField(projector, "batchSize", 10);
+
+        try {
+            // when
+            assertTrue(projector.startRebuild());
+            boolean restarted = projector.startRebuild();
+
+            // then
+            assertFalse(restarted);
+            assertTimeoutPreemptively(Duration.ofSeconds(2), projector::refreshDirty);
+        } finally {
+            release.countDown();
+        }
+        awaitRebuild(projector);
+        assertTrue(projector.startRebuild()); // 끝나면 다시 시작할 수 있다.
+        awaitRebuild(projector);
+        projector.shutdown();
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class TodoWeatherEnrichmentWorkerTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withBean(TodoRepository.class, () -> mock(TodoRepository.class))
+            .withBean(WeatherClient.class, () -> mock(WeatherClient.class))
+            .withBean(TransactionTemplate.class, () -> mock(TransactionTemplate.class))
+            .withUserConfiguration(TodoWeatherEnrichmentWorker.class);
+
+    @Test
+    void 비동기_날씨_보강이_꺼져_있으면_워커를_등록하지_않는다() {
+        contextRunner.run(context -> assertEquals(0, context.getBeansOfType(TodoWeatherEnrichmentWorker.class).size()));
+        contextRunner.withPropertyValues("todo.weather.async-enabled=false")
+                .run(context -> assertEquals(0, context.getBeansOfType(TodoWeatherEnrichmentWorker.class).size()));
+    }
+
+    @Test
+    void 비동기_날씨_보강이_켜져_있으면_워커를_등록한다() {
+        contextRunner.withPropertyValues("todo.weather.async-enabled=true")
+                .run(context -> assertEquals(1, context.getBeansOfType(TodoWeatherEnrichmentWorker.class).size()));
+    }
+}
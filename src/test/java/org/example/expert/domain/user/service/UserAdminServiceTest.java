@@ -0,0 +1,167 @@
+package org.example.expert.domain.user.service;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.QueryDslConfig;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.dto.request.UserRoleBatchChangeRequest;
+import org.example.expert.domain.user.dto.request.UserRoleBatchChangeRequest.Item;
+import org.example.expert.domain.user.dto.response.UserRoleChangeResponse;
+import org.example.expert.domain.user.dto.response.UserRoleChangeResponse.Result;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.event.UserTokenRevokedEvent;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest
+@RecordApplicationEvents
+@Import({UserAdminService.class, QueryDslConfig.class, PersistenceConfig.class})
+class UserAdminServiceTest {
+
+    private static final LocalDateTime OLD_MODIFIED_AT = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    @Autowired
+    private UserAdminService userAdminService;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @SpyBean
+    private UserRepository userRepository;
+
+    // 수정 시간을 과거로 맞춰 둔 유저를 저장한다. (변경 후 modifiedAt 이 갱신됐는지 비교)
+    private List<Long> saveUsers(int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            User user = new User("user" + i + "@test.com", "pw", UserRole.ROLE_USER, "user" + i);
+            entityManager.persist(user);
+            ids.add(user.getId());
+        }
+        entityManager.flush();
+        entityManager.createNativeQuery("UPDATE users SET modified_at = :modifiedAt")
+                .setParameter("modifiedAt", OLD_MODIFIED_AT)
+                .executeUpdate();
+        entityManager.clear();
+        entityManager.getEntityManagerFactory().getCache().evictAll();
+        return ids;
+    }
+
+    private User findUser(Long userId) {
+        entityManager.clear();
+        return entityManager.find(User.class, userId);
+    }
+
+    @Test
+    void 권한_일괄_변경_결과는_요청_순서대로_UPDATED_NOT_FOUND_INVALID_ROLE_로_반환한다() {
+        // given
+        List<Long> ids = saveUsers(2);
+        long missingId = -1L;
+        UserRoleBatchChangeRequest request = new UserRoleBatchChangeRequest(List.of(
+                new Item(missingId, "ROLE_ADMIN"),
+                new Item(ids.get(0), "ROLE_ADMIN"),
+                new Item(ids.get(1), "ROLE_SUPER"),
+                new Item(-2L, "ROLE_USER")
+        ));
+
+        // when
+        List<UserRoleChangeResponse> responses = userAdminService.changeUserRoles(request);
+
+        // then
+        assertEquals(List.of(missingId, ids.get(0), ids.get(1), -2L), responses.stream().map(UserRoleChangeResponse::getUserId).toList());
+        assertEquals(List.of(Result.NOT_FOUND, Result.UPDATED, Result.INVALID_ROLE, Result.NOT_FOUND),
+                responses.stream().map(UserRoleChangeResponse::getResult).toList());
+        assertEquals(UserRole.ROLE_ADMIN, findUser(ids.get(0)).getUserRole());
+        assertEquals(UserRole.ROLE_USER, findUser(ids.get(1)).getUserRole()); // 유효하지 않은 권한은 변경하지 않는다.
+    }
+
+    @Test
+    void 변경된_유저만_tokenEpoch와_modifiedAt이_갱신되고_토큰_폐기_이벤트가_발행된다() {
+        // given
+        List<Long> ids = saveUsers(2);
+        LocalDateTime before = LocalDateTime.now().minusSeconds(1);
+        UserRoleBatchChangeRequest request = new UserRoleBatchChangeRequest(List.of(
+                new Item(ids.get(0), "ROLE_ADMIN"),
+                new Item(ids.get(1), "INVALID")
+        ));
+
+        // when
+        userAdminService.changeUserRoles(request);
+
+        // then
+        User updated = findUser(ids.get(0));
+        assertEquals(1, updated.getTokenEpoch());
+        assertTrue(updated.getModifiedAt().isAfter(before));
+
+        User untouched = findUser(ids.get(1));
+        assertEquals(0, untouched.getTokenEpoch());
+        assertEquals(OLD_MODIFIED_AT, untouched.getModifiedAt());
+
+        List<UserTokenRevokedEvent> events = applicationEvents.stream(UserTokenRevokedEvent.class).toList();
+        assertEquals(1, events.size());
+        assertEquals(Set.of(ids.get(0)), new HashSet<>(events.get(0).userIds()));
+    }
+
+    @Test
+    void 중복된_userId가_있으면_아무것도_변경하지_않고_예외가_발생한다() {
+        // given
+        List<Long> ids = saveUsers(1);
+        UserRoleBatchChangeRequest request = new UserRoleBatchChangeRequest(List.of(
+                new Item(ids.get(0), "ROLE_ADMIN"),
+                new Item(ids.get(0), "ROLE_USER")
+        ));
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> userAdminService.changeUserRoles(request));
+
+        // then
+        assertEquals("중복된 userId가 있습니다: " + ids.get(0), exception.getMessage());
+        verify(userRepository, never()).updateRoles(any(), any(), any());
+        assertEquals(0, findUser(ids.get(0)).getTokenEpoch());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void 권한별로_500개씩_나눠서_변경한다() {
+        // given: 같은 권한으로 변경할 1,200명 + 존재하지 않는 id
+        List<Long> ids = saveUsers(1200);
+        List<Item> items = new ArrayList<>();
+        ids.forEach(id -> items.add(new Item(id, "ROLE_ADMIN")));
+        items.add(new Item(-1L, "ROLE_ADMIN"));
+
+        // when
+        List<UserRoleChangeResponse> responses = userAdminService.changeUserRoles(new UserRoleBatchChangeRequest(items));
+
+        // then: 1,201개 -> 500 + 500 + 201
+        ArgumentCaptor<Collection<Long>> chunks = ArgumentCaptor.forClass(Collection.class);
+        verify(userRepository, atLeastOnce()).findExistingIds(chunks.capture());
+        assertEquals(List.of(500, 500, 201), chunks.getAllValues().stream().map(Collection::size).toList());
+
+        assertEquals(1200, responses.stream().filter(response -> response.getResult() == Result.UPDATED).count());
+        assertEquals(Result.NOT_FOUND, responses.get(1200).getResult());
+        assertEquals(UserRole.ROLE_ADMIN, findUser(ids.get(0)).getUserRole());
+        assertEquals(UserRole.ROLE_ADMIN, findUser(ids.get(1199)).getUserRole());
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.expert.support;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 테스트 메서드 본문에서 실행될 수 있는 최대 SQL 개수
+ * 지연 로딩 추가 등으로 쿼리 수가 늘어나면(N+1) 테스트가 실패한다.
+ * 예) @QueryBudget(2) -> 목록 조회 1회 + COUNT 1회까지 허용
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(QueryBudgetExtension.class)
+public @interface QueryBudget {
+
+    int value();
+}
@@ -0,0 +1,33 @@
+package org.example.expert.support;
+
+import org.example.expert.config.QueryCounter;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+/**
+ * @QueryBudget 이 선언된 테스트의 본문(@BeforeEach 제외)에서 실행된 SQL 개수를 검사한다.
+ * MockMvc, Repository 호출 모두 테스트 스레드에서 실행되므로 QueryCounter(ThreadLocal)로 집계할 수 있다.
+ */
+public class QueryBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        QueryCounter.reset();
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        int count = QueryCounter.get();
+        QueryCounter.clear();
+
+        QueryBudget budget = AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), QueryBudget.class)
+                .or(() -> AnnotationSupport.findAnnotation(context.getRequiredTestClass(), QueryBudget.class))
+                .orElse(null);
+
+        if (budget != null && count > budget.value()) {
+            throw new AssertionError("SQL 실행 횟수가 허용치를 초과했습니다. 허용: " + budget.value() + "회, 실행: " + count + "회");
+        }
+    }
+}